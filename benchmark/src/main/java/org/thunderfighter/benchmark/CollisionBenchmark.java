@@ -0,0 +1,152 @@
+// benchmark/src/main/java/org/thunderfighter/benchmark/CollisionBenchmark.java
+
+package org.thunderfighter.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import javafx.geometry.Dimension2D;
+import javafx.scene.canvas.GraphicsContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+import org.thunderfighter.core.abstractor.AbstractBullet;
+import org.thunderfighter.core.abstractor.AbstractEnemyAircraft;
+import org.thunderfighter.core.abstractor.AbstractEntity;
+import org.thunderfighter.core.collision.CollisionDetector;
+import org.thunderfighter.core.entity.Aircraft;
+import org.thunderfighter.core.entity.SpawnSink;
+import org.thunderfighter.core.render.SpriteId;
+
+/**
+ * {@link CollisionDetector#detectCollision} over a fixed random scene.
+ *
+ * <p>80% of the entities are player bullets and 20% are enemies, spread over the 800x900 world. The
+ * entities never die and hits have no effect, so every invocation tests the same pairs.
+ *
+ * <ul>
+ *   <li>{@link #singleList}: all entities in one list, the broadphase sees every layer.
+ *   <li>{@link #layered}: bullets against enemies, as {@code World} does per layer pair.
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class CollisionBenchmark {
+
+  @Param({"100", "500", "2000", "10000"})
+  public int entityCount;
+
+  @Param({"SPATIAL_HASH", "BRUTE_FORCE"})
+  public CollisionDetector.Mode mode;
+
+  private final CollisionDetector detector = new CollisionDetector(800, 900);
+  private final List<AbstractEntity> all = new ArrayList<>();
+  private final List<AbstractEntity> bullets = new ArrayList<>();
+  private final List<AbstractEntity> enemies = new ArrayList<>();
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final Random rng = new Random(42);
+    for (int i = 0; i < entityCount; i++) {
+      final double x = rng.nextDouble() * 800;
+      final double y = rng.nextDouble() * 900;
+      if (i % 5 == 0) {
+        final TargetAircraft enemy = new TargetAircraft(x, y);
+        enemies.add(enemy);
+        all.add(enemy);
+      } else {
+        final ProbeBullet bullet = new ProbeBullet(x, y);
+        bullets.add(bullet);
+        all.add(bullet);
+      }
+    }
+    detector.setMode(mode);
+  }
+
+  @Benchmark
+  public void singleList(final Blackhole blackhole) {
+    ProbeBullet.hits = 0;
+    detector.detectCollision(all);
+    blackhole.consume(ProbeBullet.hits);
+  }
+
+  @Benchmark
+  public void layered(final Blackhole blackhole) {
+    ProbeBullet.hits = 0;
+    detector.detectCollision(bullets, enemies);
+    blackhole.consume(ProbeBullet.hits);
+  }
+
+  /** Enemy which never moves nor dies. */
+  static final class TargetAircraft extends AbstractEnemyAircraft {
+
+    private static final Dimension2D SIZE = new Dimension2D(50, 60);
+
+    TargetAircraft(final double x, final double y) {
+      this.x = x;
+      this.y = y;
+      this.size = SIZE;
+      this.hp = Integer.MAX_VALUE;
+    }
+
+    @Override
+    public void takeDamage(final int damage) {}
+
+    @Override
+    protected void move() {}
+
+    @Override
+    protected void doShoot(final SpawnSink sink) {}
+
+    @Override
+    public SpriteId getSpriteId() {
+      return SpriteId.NORMAL_ENEMY;
+    }
+  }
+
+  /** Player bullet which never moves and only counts its hits. */
+  static final class ProbeBullet extends AbstractBullet {
+
+    private static final Dimension2D SIZE = new Dimension2D(12, 24);
+
+    static int hits;
+
+    ProbeBullet(final double x, final double y) {
+      this.x = x;
+      this.y = y;
+      this.size = SIZE;
+      this.fromPlayer = true;
+    }
+
+    @Override
+    public void update(final SpawnSink sink) {}
+
+    @Override
+    public void onHit(final Aircraft target) {
+      hits++;
+    }
+
+    @Override
+    public SpriteId getSpriteId() {
+      return SpriteId.PLAYER_BULLET;
+    }
+
+    @Override
+    public void draw(final GraphicsContext gc) {}
+  }
+}
@@ -0,0 +1,58 @@
+// benchmark/src/main/java/org/thunderfighter/benchmark/LaserBulletBenchmark.java
+
+package org.thunderfighter.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import javafx.geometry.Bounds;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thunderfighter.core.collision.Aabb;
+import org.thunderfighter.core.world.WorldSize;
+import org.thunderfighter.game.bullet.LaserBullet;
+
+/**
+ * Bounds of a half-grown diagonal beam.
+ *
+ * <ul>
+ *   <li>{@link #getCollisionBounds}: the JavaFX {@link Bounds}, allocated per call.
+ *   <li>{@link #updateAabb}: the in-place box used by the collision path.
+ * </ul>
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class LaserBulletBenchmark {
+
+  private LaserBullet laser;
+
+  @Setup
+  public void setUp() {
+    laser = new LaserBullet(400, 150, 0.3, 1, 600, 20, 36);
+    laser.setWorldSize(new WorldSize(800, 900));
+    for (int i = 0; i < 18; i++) {
+      laser.update(null);
+    }
+  }
+
+  @Benchmark
+  public Bounds getCollisionBounds() {
+    return laser.getCollisionBounds();
+  }
+
+  @Benchmark
+  public Aabb updateAabb() {
+    laser.updateAabb();
+    return laser.getAabb();
+  }
+}
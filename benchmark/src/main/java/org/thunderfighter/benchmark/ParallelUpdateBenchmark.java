@@ -0,0 +1,96 @@
+// benchmark/src/main/java/org/thunderfighter/benchmark/ParallelUpdateBenchmark.java
+
+package org.thunderfighter.benchmark;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thunderfighter.core.world.EntityContainer;
+import org.thunderfighter.core.world.ParallelUpdater;
+import org.thunderfighter.core.world.SpawnBuffer;
+import org.thunderfighter.game.bullet.HomingEnemyBullet;
+import org.thunderfighter.game.trajectory.HomingTrajectory;
+import org.thunderfighter.utils.Constant;
+
+/**
+ * The entity update phase over {@code count} homing bullets, sequentially or with a {@link
+ * ParallelUpdater} on the common pool.
+ *
+ * <p>Comparing both modes over the counts gives the crossover from which parallel updates pay off
+ * on the machine, i.e. a value for {@code Constant.PARALLEL_UPDATE_THRESHOLD}. Homing bullets keep
+ * their per-object trajectory and steer every tick, so they are among the most expensive entities
+ * to update; cheaper entities move the crossover up.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class ParallelUpdateBenchmark {
+
+  /** Fixed target, read by every bullet from every worker. */
+  private static final HomingTrajectory.TargetProvider TARGET =
+      new HomingTrajectory.TargetProvider() {
+        @Override
+        public double getTargetX() {
+          return 400;
+        }
+
+        @Override
+        public double getTargetY() {
+          return 450;
+        }
+      };
+
+  @Param({"64", "256", "1024", "4096", "16384"})
+  private int count;
+
+  @Param({"false", "true"})
+  private boolean parallel;
+
+  private final EntityContainer entities = new EntityContainer();
+  private final SpawnBuffer spawns = new SpawnBuffer();
+  private final ParallelUpdater updater =
+      new ParallelUpdater(ForkJoinPool.commonPool(), Constant.PARALLEL_UPDATE_CHUNK);
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    entities.clear();
+    for (int i = 0; i < count; i++) {
+      final double angle = i * 0.1;
+      entities.add(
+          new HomingEnemyBullet(
+              400 + 300 * Math.cos(angle),
+              450 + 300 * Math.sin(angle),
+              Math.sin(angle),
+              -Math.cos(angle),
+              Integer.MAX_VALUE,
+              TARGET));
+    }
+  }
+
+  @Benchmark
+  public int update() {
+    if (parallel) {
+      updater.update(entities, 0, spawns);
+    } else {
+      for (int i = 0; i < entities.size(); i++) {
+        entities.get(i).update(spawns);
+      }
+    }
+    spawns.clear();
+    return entities.size();
+  }
+}
@@ -0,0 +1,79 @@
+// benchmark/src/main/java/org/thunderfighter/benchmark/SaveStateBenchmark.java
+
+package org.thunderfighter.benchmark;
+
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thunderfighter.core.abstractor.AbstractEntity;
+import org.thunderfighter.core.world.WorldSize;
+import org.thunderfighter.game.World;
+import org.thunderfighter.game.bulletfactory.BulletFactory;
+import org.thunderfighter.game.save.SaveState;
+
+/**
+ * Capturing and restoring a {@link SaveState} of a world holding {@code count} bullets.
+ *
+ * <p>The bullets are a mix of straight, curved, homing and player bullets spread over the world,
+ * added directly to the entity list. Restoring returns the bullets of the world to their pools and
+ * takes them back, and stores a keyframe for the replay recorder, as in the game.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class SaveStateBenchmark {
+
+  @Param({"100", "1000", "4000"})
+  private int count;
+
+  private final SaveState save = new SaveState();
+  private World world;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    final WorldSize size = new WorldSize(800, 900);
+    world = new World(size);
+    world.reset(42);
+    final Random rng = new Random(42);
+    for (int i = 0; i < count; i++) {
+      final double x = rng.nextDouble() * size.width();
+      final double y = rng.nextDouble() * size.height();
+      final AbstractEntity bullet =
+          switch (i % 4) {
+            case 0 -> BulletFactory.createEnemyBullet(size, x, y, 0, 1, false);
+            case 1 -> BulletFactory.createCurvedEnemyBullet(size, x, y, 0, 1, 0.01);
+            case 2 ->
+                BulletFactory.createHomingBullet(size, x, y, 0, 1, 100, world.getPlayerTarget());
+            default -> BulletFactory.createPlayerBullet(size, x, y);
+          };
+      world.getEntities().add(bullet);
+    }
+    save.capture(world);
+  }
+
+  @Benchmark
+  public int capture() {
+    save.capture(world);
+    return save.getSize();
+  }
+
+  @Benchmark
+  public int restore() {
+    save.restore(world);
+    return world.getEntities().size();
+  }
+}
@@ -0,0 +1,74 @@
+// benchmark/src/main/java/org/thunderfighter/benchmark/TickBenchmark.java
+
+package org.thunderfighter.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thunderfighter.core.world.WorldSize;
+import org.thunderfighter.game.World;
+import org.thunderfighter.game.aircraft.player.PlayerAircraft;
+import org.thunderfighter.utils.Constant;
+import org.thunderfighter.utils.Constant.GAME_STATE;
+import org.thunderfighter.utils.Constant.PHASE;
+
+/**
+ * One headless {@link World#tick()} in the boss phase.
+ *
+ * <p>The player fires continuously and strafes left and right, so the boss goes through its stages
+ * with straight, curved, homing and laser bullets on screen. When the round ends, a new round is
+ * started directly in the boss phase; this happens rarely compared to the number of ticks.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TickBenchmark {
+
+  /** Ticks spent on one strafe direction. */
+  private static final int STRAFE_TICKS = 90;
+
+  private World world;
+
+  @Setup(Level.Trial)
+  public void setUp() {
+    world = new World(new WorldSize(800, 900));
+    startBossRound();
+  }
+
+  @Benchmark
+  public int bossPhaseTick() {
+    if (world.getOutcome() != GAME_STATE.RUNNING) {
+      startBossRound();
+    }
+
+    final PlayerAircraft player = world.getPlayerAircraft();
+    final boolean left = (world.getTickCount() / STRAFE_TICKS) % 2 == 0;
+    player.setLeft(left);
+    player.setRight(!left);
+
+    world.tick();
+    return world.getEntities().size();
+  }
+
+  /** Reset the world and tick until the boss is spawned. */
+  private void startBossRound() {
+    world.reset();
+    world.getScoreManager().addScore(Constant.GENERATE_BOSS_SCORE);
+    world.getPlayerAircraft().setShooting(true);
+    while (world.getEnemyStage() != PHASE.BOSS) {
+      world.tick();
+    }
+  }
+}
@@ -0,0 +1,76 @@
+// benchmark/src/main/java/org/thunderfighter/benchmark/TrajectoryBenchmark.java
+
+package org.thunderfighter.benchmark;
+
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.thunderfighter.core.entity.Trajectory;
+import org.thunderfighter.game.bullet.CurveEnemyBullet;
+import org.thunderfighter.game.bullet.HomingEnemyBullet;
+import org.thunderfighter.game.trajectory.HomingTrajectory;
+
+/**
+ * One {@code Trajectory.update} call on a single bullet, i.e. the per-bullet cost of the object
+ * path. Bullets are put back at their start position before each iteration.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class TrajectoryBenchmark {
+
+  /** Target moving on a circle, so the homing bullet keeps turning. */
+  private final HomingTrajectory.TargetProvider target =
+      new HomingTrajectory.TargetProvider() {
+        private int t;
+
+        @Override
+        public double getTargetX() {
+          return 400 + 200 * Math.cos(++t * 0.01);
+        }
+
+        @Override
+        public double getTargetY() {
+          return 450 + 200 * Math.sin(t * 0.01);
+        }
+      };
+
+  private CurveEnemyBullet curveBullet;
+  private Trajectory curve;
+
+  private HomingEnemyBullet homingBullet;
+  private Trajectory homing;
+
+  @Setup(Level.Iteration)
+  public void setUp() {
+    curveBullet = new CurveEnemyBullet(400, 100, -1.2, 3.0, 0.05);
+    curve = curveBullet.getTrajectory();
+
+    homingBullet = new HomingEnemyBullet(400, 100, 0, 2.5, Integer.MAX_VALUE, target);
+    homing = homingBullet.getTrajectory();
+  }
+
+  @Benchmark
+  public double curveUpdate() {
+    curve.update(curveBullet);
+    return curveBullet.getX();
+  }
+
+  @Benchmark
+  public double homingUpdate() {
+    homing.update(homingBullet);
+    return homingBullet.getX();
+  }
+}
@@ -3,7 +3,14 @@
 package org.thunderfighter;
 
 import javafx.application.Application;
+import javafx.geometry.Pos;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.control.ProgressBar;
+import javafx.scene.layout.VBox;
 import javafx.stage.Stage;
+import org.thunderfighter.core.manager.AssetPreloader;
+import org.thunderfighter.core.metrics.StartupMetrics;
 import org.thunderfighter.game.Game;
 
 public class Main extends Application {
@@ -11,8 +18,42 @@ public class Main extends Application {
     launch();
   }
 
+  /**
+   * Show a progress bar while the images are decoded in the background, then start the game.
+   *
+   * <p>If preloading fails, the game starts anyway and loads the missing images on first use.
+   *
+   * @param stage Primary stage.
+   */
   @Override
   public void start(final Stage stage) {
+    final AssetPreloader preloader = new AssetPreloader(Game.getAssets());
+
+    final ProgressBar progress = new ProgressBar();
+    progress.setPrefWidth(300);
+    progress.progressProperty().bind(preloader.progressProperty());
+    final Label message = new Label();
+    message.textProperty().bind(preloader.messageProperty());
+    final VBox loading = new VBox(10, message, progress);
+    loading.setAlignment(Pos.CENTER);
+    stage.setScene(new Scene(loading, Game.WORLD_SIZE.width(), Game.WORLD_SIZE.height()));
+    stage.show();
+
+    preloader.setOnSucceeded(e -> startGame(stage));
+    preloader.setOnFailed(
+        e -> {
+          preloader.getException().printStackTrace();
+          startGame(stage);
+        });
+
+    StartupMetrics.markPreloadStart();
+    final Thread thread = new Thread(preloader, "asset-preloader-main");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  private void startGame(final Stage stage) {
+    StartupMetrics.markPreloadEnd();
     final Game game = new Game(stage);
     game.start();
   }
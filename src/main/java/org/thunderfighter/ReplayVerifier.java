@@ -0,0 +1,151 @@
+// src/main/java/org/thunderfighter/ReplayVerifier.java
+
+package org.thunderfighter;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Stream;
+import org.thunderfighter.game.World;
+import org.thunderfighter.game.replay.Replay;
+import org.thunderfighter.utils.Constant;
+import org.thunderfighter.utils.Constant.GAME_STATE;
+
+/**
+ * Re-run every replay of a directory headless, as fast as possible, and report divergences.
+ *
+ * <p>Usage: {@code ReplayVerifier <directory> [threads]}. Each {@link Replay#EXTENSION} file of the
+ * directory is run from its start on its own {@link World}, one replay per worker, with as many
+ * workers as cores by default. Worlds share no state but the bullet pools, so the throughput grows
+ * with the cores. The JavaFX toolkit is never started, so no display is needed.
+ *
+ * <p>One line is printed per replay, in file order: the simulated ticks, the final score and
+ * outcome, the ticks per second and the result of {@link Replay#run(World)}. The exit status is
+ * {@code 1} if a replay diverged or could not be read.
+ */
+public final class ReplayVerifier {
+
+  /**
+   * Result of one replay.
+   *
+   * @param file Replay file.
+   * @param ticks Ticks simulated.
+   * @param score Final score of the simulation.
+   * @param outcome Final outcome of the simulation.
+   * @param nanos Time spent simulating.
+   * @param divergence First diverging tick, {@code -1} if none.
+   * @param error Why the replay could not be run, {@code null} if it was.
+   */
+  private record Result(
+      Path file,
+      long ticks,
+      int score,
+      GAME_STATE outcome,
+      long nanos,
+      long divergence,
+      String error) {}
+
+  private ReplayVerifier() {}
+
+  public static void main(final String[] args) throws IOException, InterruptedException {
+    if (args.length < 1 || args.length > 2) {
+      System.err.println("Usage: ReplayVerifier <directory> [threads]");
+      System.exit(2);
+    }
+    final Path directory = Path.of(args[0]);
+    final int threads =
+        args.length > 1 ? Integer.parseInt(args[1]) : Runtime.getRuntime().availableProcessors();
+
+    final List<Path> files;
+    try (Stream<Path> list = Files.list(directory)) {
+      files =
+          list.filter(file -> file.getFileName().toString().endsWith(Replay.EXTENSION))
+              .sorted()
+              .toList();
+    }
+
+    final long start = System.nanoTime();
+    final ExecutorService pool = Executors.newFixedThreadPool(threads);
+    final List<Future<Result>> futures = new ArrayList<>(files.size());
+    for (final Path file : files) {
+      futures.add(pool.submit(() -> verify(file)));
+    }
+
+    int failures = 0;
+    long ticks = 0;
+    try {
+      for (final Future<Result> future : futures) {
+        final Result result = future.get();
+        System.out.println(format(result));
+        if (result.error() != null || result.divergence() >= 0) {
+          failures++;
+        }
+        ticks += result.ticks();
+      }
+    } catch (final ExecutionException e) {
+      // `verify()` reports its own failures, only an error may get here.
+      throw new IllegalStateException(e.getCause());
+    } finally {
+      pool.shutdown();
+    }
+
+    final double seconds = (System.nanoTime() - start) / 1e9;
+    System.out.printf(
+        "%d replays, %d failed, %d ticks in %.2f s on %d threads: %.0f ticks/s, %.0fx real time%n",
+        files.size(),
+        failures,
+        ticks,
+        seconds,
+        threads,
+        ticks / seconds,
+        ticks / seconds / Constant.TPS);
+    System.exit(failures > 0 ? 1 : 0);
+  }
+
+  /**
+   * Read and run one replay.
+   *
+   * @param file Replay file.
+   * @return Result, with an error if the replay could not be read or run.
+   */
+  private static Result verify(final Path file) {
+    try {
+      final Replay replay = Replay.read(file);
+      final World world = replay.start();
+      final long start = System.nanoTime();
+      final long divergence = replay.run(world);
+      final long nanos = System.nanoTime() - start;
+      return new Result(
+          file,
+          world.getTickCount() - replay.getFirstTick(),
+          world.getScoreManager().getScore(),
+          world.getOutcome(),
+          nanos,
+          divergence,
+          null);
+    } catch (final IOException | RuntimeException e) {
+      return new Result(file, 0, 0, null, 0, -1, e.toString());
+    }
+  }
+
+  private static String format(final Result result) {
+    final String name = result.file().getFileName().toString();
+    if (result.error() != null) {
+      return String.format("%-36s ERROR %s", name, result.error());
+    }
+    return String.format(
+        "%-36s %8d ticks  score %6d  %-7s %10.0f ticks/s  %s",
+        name,
+        result.ticks(),
+        result.score(),
+        result.outcome(),
+        result.ticks() / Math.max(result.nanos() / 1e9, 1e-9),
+        result.divergence() < 0 ? "OK" : "DIVERGED at tick " + result.divergence());
+  }
+}
@@ -2,12 +2,10 @@
 
 package org.thunderfighter.core.abstractor;
 
-import java.util.List;
-import javafx.geometry.BoundingBox;
-import javafx.geometry.Bounds;
+import java.nio.ByteBuffer;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import org.thunderfighter.core.entity.Aircraft;
+import org.thunderfighter.core.entity.SpawnSink;
 
 /**
  * Abstract Aircraft Class
@@ -17,26 +15,21 @@ import org.thunderfighter.core.entity.Aircraft;
  * boundaries.
  *
  * <p>When inheriting from this class, the `{@link #move()}` method must be implemented, and `{@link
- * #onUpdate(List)}` and `{@link #onDie()}` can be overridden as needed.
+ * #onUpdate(SpawnSink)}` and `{@link #onDie()}` can be overridden as needed.
  */
 public abstract class AbstractAircraft extends AbstractEntity implements Aircraft {
 
   /** current health */
   protected int hp;
 
-  /** Airplane texture */
-  protected Image sprite; // aircraft texture
-
   /**
    * Update the aircraft's collision boundaries
    *
-   * <p>Based on the current coordinates (x, y) and size, Create a new {@link BoundingBox} as the
+   * <p>Based on the current coordinates (x, y) and size, overwrite {@link #aabb} in place as the
    * collision area.
    */
   protected void updateCollisionBounds() {
-    if (size != null) {
-      collisionBounds = new BoundingBox(x, y, size.getWidth(), size.getHeight());
-    }
+    updateAabb();
   }
 
   /**
@@ -49,6 +42,18 @@ public abstract class AbstractAircraft extends AbstractEntity implements Aircraf
     return hp;
   }
 
+  @Override
+  public void writeState(ByteBuffer out) {
+    super.writeState(out);
+    out.putInt(hp);
+  }
+
+  @Override
+  public void readState(ByteBuffer in) {
+    super.readState(in);
+    hp = in.getInt();
+  }
+
   /**
    * Takes damage
    *
@@ -70,16 +75,6 @@ public abstract class AbstractAircraft extends AbstractEntity implements Aircraf
     }
   }
 
-  /**
-   * Get the aircraft's collision boundaries
-   *
-   * @return the current {@link Bounds}
-   */
-  @Override
-  public Bounds getCollisionBounds() {
-    return collisionBounds;
-  }
-
   /**
    * Update logic for each frame (template method)
    *
@@ -89,30 +84,31 @@ public abstract class AbstractAircraft extends AbstractEntity implements Aircraf
    *   <li>Check if alive
    *   <li>Execute movement logic {@link #move()}
    *   <li>Update collision boundaries
-   *   <li>Execute subclass extension logic {@link #onUpdate(List)}
+   *   <li>Execute subclass extension logic {@link #onUpdate(SpawnSink)}
    * </ol>
    *
-   * @param worldEntities All entities in the current world
+   * @param sink Receives the entities spawned during the tick
    */
   @Override
-  public final void update(List<AbstractEntity> worldEntities) {
+  public final void update(SpawnSink sink) {
     if (!aliveFlag) return;
     move();
     updateCollisionBounds();
-    onUpdate(worldEntities);
+    onUpdate(sink);
   }
 
   /**
    * Draw the aircraft
    *
-   * <p>Draw only while the aircraft is alive, Render using sprite at current coordinates and size.
+   * <p>Draw only while the aircraft is alive, Render using sprite at interpolated coordinates and
+   * size.
    *
    * @param gc JavaFX drawing context
    */
   @Override
   public void draw(GraphicsContext gc) {
     if (!aliveFlag) return;
-    gc.drawImage(sprite, x, y, size.getWidth(), size.getHeight());
+    gc.drawImage(getSpriteId().getImage(), renderX, renderY, size.getWidth(), size.getHeight());
   }
 
   /**
@@ -146,8 +142,7 @@ public abstract class AbstractAircraft extends AbstractEntity implements Aircraf
    *   <li>Skill Cooldown
    * </ul>
    *
-   * @param worldEntities All entities in the current world
+   * @param sink Receives the entities spawned during the tick
    */
-  protected void onUpdate(
-      List<AbstractEntity> worldEntities) {} // extra logic per frame, like shooting, AI, etc.
+  protected void onUpdate(SpawnSink sink) {} // extra logic per frame, like shooting, AI, etc.
 }
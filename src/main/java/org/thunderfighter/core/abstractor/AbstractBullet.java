@@ -2,17 +2,19 @@
 
 package org.thunderfighter.core.abstractor;
 
-import java.util.List;
-import javafx.geometry.BoundingBox;
-import javafx.geometry.Bounds;
+import java.nio.ByteBuffer;
+import org.thunderfighter.core.collision.CollisionLayer;
 import org.thunderfighter.core.entity.Aircraft;
 import org.thunderfighter.core.entity.Bullet;
+import org.thunderfighter.core.entity.SpawnSink;
 import org.thunderfighter.core.entity.Trajectory;
+import org.thunderfighter.core.world.WorldSize;
+import org.thunderfighter.game.bullet.BulletStore;
 
 /**
  * AbstractBullet
  *
- * <p>Base class for all bullets (including items). Canvas is inherited from AbstractEntity.
+ * <p>Base class for all bullets (including items). World size is inherited from AbstractEntity.
  */
 public abstract class AbstractBullet extends AbstractEntity implements Bullet {
 
@@ -30,71 +32,170 @@ public abstract class AbstractBullet extends AbstractEntity implements Bullet {
 
   protected double originY;
 
-  /** Canvas bounds (must be set by bullet constructor). */
-  protected double canvasW;
+  /**
+   * Structure-of-arrays store holding the position, velocity and liveness of this bullet, or {@code
+   * null} when the fields of this object are used. While stored, the bullet is a view: accessors
+   * read and write its slot, and the store moves it instead of {@link #moveOnce()}.
+   */
+  private BulletStore store;
 
-  protected double canvasH;
+  private int slot = -1;
 
   @Override
-  public Bounds getCollisionBounds() {
-    // size must be initialized in each concrete bullet constructor
-    return new BoundingBox(x, y, size.getWidth(), size.getHeight());
+  public final boolean isFromPlayer() {
+    return fromPlayer;
   }
 
+  /** Bullets are in the layer of the side which fired them. */
   @Override
-  public final boolean isFromPlayer() {
-    return fromPlayer;
+  public int getCollisionLayer() {
+    return fromPlayer ? CollisionLayer.PLAYER_BULLET : CollisionLayer.ENEMY_BULLET;
   }
 
   // ----------------------------
   // Trajectory-required accessors
   // ----------------------------
 
-  /** Position X (delegated to AbstractEntity state). */
+  /** Position X (delegated to AbstractEntity state or to the store). */
+  @Override
   public double getX() {
-    return x;
+    return store != null ? store.getX(slot) : x;
   }
 
-  /** Position Y (delegated to AbstractEntity state). */
+  /** Position Y (delegated to AbstractEntity state or to the store). */
+  @Override
   public double getY() {
-    return y;
+    return store != null ? store.getY(slot) : y;
   }
 
   /** Set position X. */
   public void setX(double x) {
-    this.x = x;
+    if (store != null) {
+      store.setX(slot, x);
+    } else {
+      this.x = x;
+    }
   }
 
   /** Set position Y. */
   public void setY(double y) {
-    this.y = y;
+    if (store != null) {
+      store.setY(slot, y);
+    } else {
+      this.y = y;
+    }
   }
 
   /** Velocity X per tick. */
   public double getDx() {
-    return dx;
+    return store != null ? store.getDx(slot) : dx;
   }
 
   /** Velocity Y per tick. */
   public double getDy() {
-    return dy;
+    return store != null ? store.getDy(slot) : dy;
   }
 
   /** Set velocity X per tick. */
   public void setDx(double dx) {
-    this.dx = dx;
+    if (store != null) {
+      store.setDx(slot, dx);
+    } else {
+      this.dx = dx;
+    }
   }
 
   /** Set velocity Y per tick. */
   public void setDy(double dy) {
-    this.dy = dy;
+    if (store != null) {
+      store.setDy(slot, dy);
+    } else {
+      this.dy = dy;
+    }
+  }
+
+  /** A stored bullet is also dead once its store culled it. */
+  @Override
+  public boolean isAlive() {
+    return aliveFlag && (store == null || store.isAlive(slot));
+  }
+
+  /** Box at the current position, which may live in the store. */
+  @Override
+  public void updateAabb() {
+    aabb.set(getX(), getY(), size.getWidth(), size.getHeight());
   }
 
-  /** Allow runtime trajectory swapping (optional but useful). */
+  public Trajectory getTrajectory() {
+    return trajectory;
+  }
+
+  /**
+   * Allow runtime trajectory swapping (optional but useful).
+   *
+   * <p>A stored bullet leaves its store, since the store only knows one trajectory kind.
+   */
   public void setTrajectory(Trajectory trajectory) {
+    if (store != null) {
+      store.remove(slot);
+    }
     this.trajectory = trajectory;
   }
 
+  /** Velocity and lifetime are written too; a stored bullet is read back unstored. */
+  @Override
+  public void writeState(ByteBuffer out) {
+    super.writeState(out);
+    out.putDouble(getDx());
+    out.putDouble(getDy());
+    out.putInt(lifeTicks);
+    out.putDouble(originX);
+    out.putDouble(originY);
+  }
+
+  @Override
+  public void readState(ByteBuffer in) {
+    if (store != null) store.remove(slot);
+    super.readState(in);
+    dx = in.getDouble();
+    dy = in.getDouble();
+    lifeTicks = in.getInt();
+    originX = in.getDouble();
+    originY = in.getDouble();
+  }
+
+  // ----------------------------
+  // Structure-of-arrays binding
+  // ----------------------------
+
+  /** Store holding this bullet, or {@code null}. */
+  public final BulletStore getStore() {
+    return store;
+  }
+
+  /** Slot of this bullet in its store, or -1. */
+  public final int getSlot() {
+    return slot;
+  }
+
+  /** Called by {@link BulletStore} when the bullet is stored or moved to another slot. */
+  public final void attach(BulletStore store, int slot) {
+    this.store = store;
+    this.slot = slot;
+  }
+
+  /** Called by {@link BulletStore} before the slot is freed: copies the state back to fields. */
+  public final void detach() {
+    if (store == null) return;
+    x = store.getX(slot);
+    y = store.getY(slot);
+    dx = store.getDx(slot);
+    dy = store.getDy(slot);
+    if (!store.isAlive(slot)) aliveFlag = false;
+    store = null;
+    slot = -1;
+  }
+
   public final void setOrigin(double ox, double oy) {
     this.originX = ox;
     this.originY = oy;
@@ -104,6 +205,20 @@ public abstract class AbstractBullet extends AbstractEntity implements Bullet {
     this.lifeTicks = ticks;
   }
 
+  /**
+   * Bring a recycled bullet back to life.
+   *
+   * <p>Called at the start of each concrete {@code reset(...)} so that a pooled instance behaves
+   * exactly like a newly constructed one. The world size is kept.
+   */
+  protected final void resetBase() {
+    if (store != null) store.remove(slot);
+    aliveFlag = true;
+    hasPrevious = false;
+    aabb.clear();
+    lifeTicks = -1;
+  }
+
   /** Decrements lifetime if enabled. When lifeTicks reaches 0, bullet dies. */
   protected final void tickLife() {
     if (lifeTicks > 0) {
@@ -112,21 +227,42 @@ public abstract class AbstractBullet extends AbstractEntity implements Bullet {
     }
   }
 
-  /** Kill bullet when leaving canvas. Canvas comes from AbstractEntity. */
+  /** Kill bullet when leaving the world. World size comes from AbstractEntity. */
   protected final void killIfOutOfBounds() {
-    if (canvas == null) return;
+    if (worldSize == null) return;
 
-    double w = canvas.getWidth();
-    double h = canvas.getHeight();
+    if (worldSize.isOutside(getX(), getY(), size.getWidth(), size.getHeight())) {
+      aliveFlag = false;
+    }
+  }
 
-    if (x + size.getWidth() < 0 || x > w || y + size.getHeight() < 0 || y > h) {
+  /**
+   * Kill bullet when outside given bounds, whatever created it and whether its world size was set.
+   *
+   * <p>Called by the world every tick, after the update.
+   *
+   * @param bounds World bounds
+   */
+  public final void cullOutside(WorldSize bounds) {
+    if (aliveFlag
+        && isCulledOutsideWorld()
+        && bounds.isOutside(getX(), getY(), size.getWidth(), size.getHeight())) {
       aliveFlag = false;
     }
   }
 
-  /** One movement step by the current trajectory (if any). */
+  /**
+   * Whether the world kills the bullet once it left the world
+   *
+   * @return {@code true} unless the bullet ends by itself, e.g. a beam after its duration
+   */
+  protected boolean isCulledOutsideWorld() {
+    return true;
+  }
+
+  /** One movement step by the current trajectory (if any). Stored bullets are moved by the store. */
   protected final void moveOnce() {
-    if (trajectory != null) {
+    if (store == null && trajectory != null) {
       trajectory.update(this);
     }
   }
@@ -136,7 +272,7 @@ public abstract class AbstractBullet extends AbstractEntity implements Bullet {
   }
 
   @Override
-  public abstract void update(List<AbstractEntity> worldEntities);
+  public abstract void update(SpawnSink sink);
 
   @Override
   public abstract void onHit(Aircraft target);
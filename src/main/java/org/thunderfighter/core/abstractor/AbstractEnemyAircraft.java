@@ -2,7 +2,9 @@
 
 package org.thunderfighter.core.abstractor;
 
-import java.util.List;
+import java.nio.ByteBuffer;
+import org.thunderfighter.core.collision.CollisionLayer;
+import org.thunderfighter.core.entity.SpawnSink;
 import org.thunderfighter.core.manager.ScoreManager;
 
 /**
@@ -13,7 +15,7 @@ import org.thunderfighter.core.manager.ScoreManager;
  * enemy aircraft. *
  *
  * <p>Subclasses only need to focus on the specific movement methods and shooting implementation
- * ({@link #doShoot(List)}).
+ * ({@link #doShoot(SpawnSink)}).
  */
 public abstract class AbstractEnemyAircraft extends AbstractAircraft {
 
@@ -29,6 +31,9 @@ public abstract class AbstractEnemyAircraft extends AbstractAircraft {
   /** destruction score */
   protected int score;
 
+  /** credited with the score on destruction, set by the spawning world */
+  private ScoreManager scoreManager;
+
   /**
    * Indicates whether the aircraft is a player aircraft
    *
@@ -39,19 +44,56 @@ public abstract class AbstractEnemyAircraft extends AbstractAircraft {
     return false;
   }
 
+  /**
+   * Enemy aircraft are in the enemy layer
+   *
+   * @return {@link CollisionLayer#ENEMY}
+   */
+  @Override
+  public int getCollisionLayer() {
+    return CollisionLayer.ENEMY;
+  }
+
+  /**
+   * Sets the score the destruction is credited to
+   *
+   * @param scoreManager Score of the world, or null to credit nothing
+   */
+  public void setScoreManager(ScoreManager scoreManager) {
+    this.scoreManager = scoreManager;
+  }
+
+  @Override
+  public void writeState(ByteBuffer out) {
+    super.writeState(out);
+    out.put((byte) (canShoot ? 1 : 0));
+    out.putInt(shootInterval);
+    out.putInt(shootCooldown);
+    out.putInt(score);
+  }
+
+  @Override
+  public void readState(ByteBuffer in) {
+    super.readState(in);
+    canShoot = in.get() != 0;
+    shootInterval = in.getInt();
+    shootCooldown = in.getInt();
+    score = in.getInt();
+  }
+
   /**
    * Attempt to fire
    *
    * <p>Firing logic will only be executed if the enemy aircraft has the ability to fire and the
    * cooldown has ended.
    *
-   * @param worldEntities All entities in the current world
+   * @param sink Receives the entities spawned during the tick
    */
   @Override
-  public void shoot(List<AbstractEntity> worldEntities) {
+  public void shoot(SpawnSink sink) {
     if (!canShoot) return;
     if (shootCooldown <= 0) {
-      doShoot(worldEntities);
+      doShoot(sink);
       shootCooldown = shootInterval;
     }
   }
@@ -61,17 +103,17 @@ public abstract class AbstractEnemyAircraft extends AbstractAircraft {
    *
    * <p>If it is out of the map, it is not alive.
    *
-   * <p>Since the enemy is only generated within the width of {@code canvas}, so the {@code x} is
+   * <p>Since the enemy is only generated within the width of the world, so the {@code x} is
    * always inside the range.
    *
-   * <p>However, the enemy is generated above the {@code canvas}, so the upper boundary can be
+   * <p>However, the enemy is generated above the world, so the upper boundary can be
    * skipped to check.
    *
    * <p>In this case, this function only checks whether the {@code y} is greater than the height of
-   * {@code canvas}.
+   * the world.
    */
   private final void checkBoundary() {
-    if (this.y >= canvas.getHeight()) {
+    if (this.y >= worldSize.height()) {
       this.aliveFlag = false;
     }
   }
@@ -86,23 +128,26 @@ public abstract class AbstractEnemyAircraft extends AbstractAircraft {
    *   <li>Trigger firing attempt
    * </ul>
    *
-   * @param worldEntities All entities in the current world
+   * @param sink Receives the entities spawned during the tick
    */
   @Override
-  protected void onUpdate(List<AbstractEntity> worldEntities) {
+  protected void onUpdate(SpawnSink sink) {
     if (shootCooldown > 0) shootCooldown--;
-    shoot(worldEntities);
+    shoot(sink);
     checkBoundary();
   }
 
   /**
    * Callback for enemy aircraft death
    *
-   * <p>When an enemy aircraft is destroyed, add the corresponding score to {@link ScoreManager}.
+   * <p>When an enemy aircraft is destroyed, add the corresponding score to its {@link
+   * ScoreManager}, if any.
    */
   @Override
   protected void onDie() {
-    ScoreManager.getInstance().addScore(this.score);
+    if (scoreManager != null) {
+      scoreManager.addScore(this.score);
+    }
   }
 
   /**
@@ -111,7 +156,7 @@ public abstract class AbstractEnemyAircraft extends AbstractAircraft {
    * <p>Implemented by a specific enemy subclass, used to generate bullets, Set ballistics or
    * special attack behaviors.
    *
-   * @param worldEntities All entities in the current world
+   * @param sink Receives the entities spawned during the tick
    */
-  protected abstract void doShoot(List<AbstractEntity> worldEntities);
+  protected abstract void doShoot(SpawnSink sink);
 }
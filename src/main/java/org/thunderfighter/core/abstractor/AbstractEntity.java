@@ -2,12 +2,17 @@
 
 package org.thunderfighter.core.abstractor;
 
-import java.util.List;
+import java.nio.ByteBuffer;
 import javafx.geometry.Bounds;
 import javafx.geometry.Dimension2D;
-import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
+import org.thunderfighter.core.collision.Aabb;
+import org.thunderfighter.core.collision.CollisionLayer;
 import org.thunderfighter.core.entity.Entity;
+import org.thunderfighter.core.entity.SpawnSink;
+import org.thunderfighter.core.render.RenderSnapshot;
+import org.thunderfighter.core.render.SpriteId;
+import org.thunderfighter.core.world.WorldSize;
 
 /**
  * Abstract base class for entities
@@ -20,10 +25,10 @@ import org.thunderfighter.core.entity.Entity;
  */
 public abstract class AbstractEntity implements Entity {
 
-  /** The x-coordinate of the entity on the canvas */
+  /** The x-coordinate of the entity in the world */
   protected double x;
 
-  /** The y-coordinate of the entity on the canvas */
+  /** The y-coordinate of the entity in the world */
   protected double y;
 
   /** Entity's movement speed */
@@ -35,38 +40,96 @@ public abstract class AbstractEntity implements Entity {
   /** Entity size (usually corresponds to texture size) */
   protected Dimension2D size;
 
-  /** Current collision boundaries of the entity */
-  protected Bounds collisionBounds;
+  /** Current collision boundaries of the entity, updated in place by {@link #updateAabb()} */
+  protected final Aabb aabb = new Aabb();
 
-  /** The canvas containing the entity */
-  protected Canvas canvas;
+  /** Position at the start of the last tick, used to interpolate rendering */
+  protected double prevX;
+
+  protected double prevY;
+
+  /** Whether {@link #prevX} and {@link #prevY} are valid, false for a newly spawned entity */
+  protected boolean hasPrevious = false;
+
+  /** Interpolated position to draw at, set by {@link #interpolate(double)} */
+  protected double renderX;
+
+  protected double renderY;
+
+  /** Size of the world containing the entity */
+  protected WorldSize worldSize;
 
   /**
-   * Sets the canvas containing the entity
+   * Sets the size of the world containing the entity
    *
-   * @param canvas JavaFX Canvas
+   * @param worldSize World boundaries
    */
-  public void setCanvas(Canvas canvas) {
-    this.canvas = canvas;
+  public void setWorldSize(WorldSize worldSize) {
+    this.worldSize = worldSize;
   }
 
   /**
-   * Get the canvas containing the entity
+   * Get the size of the world containing the entity
    *
-   * @return Current Canvas
+   * @return Current world size
    */
-  public Canvas getCanvas() {
-    return canvas;
+  public WorldSize getWorldSize() {
+    return worldSize;
   }
 
   /**
    * Get the collision boundaries of the entity
    *
-   * @return current {@link Bounds}
+   * <p>This allocates a new {@link Bounds} on each call. The collision path uses {@link #getAabb()}
+   * instead.
+   *
+   * @return current {@link Bounds}, or {@code null} if the entity has no size
    */
   @Override
   public Bounds getCollisionBounds() {
-    return collisionBounds;
+    updateAabb();
+    return aabb.toBounds();
+  }
+
+  /**
+   * Refresh {@link #aabb} from the current state of the entity
+   *
+   * <p>By default the box covers the texture at (x, y). Entities with another shape, such as a
+   * beam, override this method. It must not allocate.
+   */
+  public void updateAabb() {
+    if (size != null) {
+      aabb.set(x, y, size.getWidth(), size.getHeight());
+    }
+  }
+
+  /**
+   * Get the axis-aligned bounding box of the entity
+   *
+   * <p>The box is as fresh as the last call to {@link #updateAabb()}.
+   *
+   * @return the {@link Aabb} owned by this entity
+   */
+  public final Aabb getAabb() {
+    return aabb;
+  }
+
+  /**
+   * Get the collision layer of the entity
+   *
+   * @return A single bit of {@link CollisionLayer}, {@link CollisionLayer#NONE} by default
+   */
+  public int getCollisionLayer() {
+    return CollisionLayer.NONE;
+  }
+
+  /**
+   * Get the layers this entity collides with
+   *
+   * @return The mask of {@link #getCollisionLayer()}
+   */
+  public final int getCollisionMask() {
+    return CollisionLayer.maskOf(getCollisionLayer());
   }
 
   /**
@@ -99,6 +162,15 @@ public abstract class AbstractEntity implements Entity {
     return aliveFlag;
   }
 
+  /**
+   * Mark the entity as dead, without the side effects of dying, e.g. for a despawn
+   *
+   * <p>It is removed from the world at the end of the tick.
+   */
+  public void kill() {
+    aliveFlag = false;
+  }
+
   /**
    * Get the current x-coordinate of the entity
    *
@@ -117,6 +189,95 @@ public abstract class AbstractEntity implements Entity {
     return this.y;
   }
 
+  /**
+   * Remember the current position as the previous one
+   *
+   * <p>Called by the world at the start of every tick, before anything moves.
+   */
+  public void storePreviousPosition() {
+    prevX = getX();
+    prevY = getY();
+    hasPrevious = true;
+  }
+
+  /**
+   * Compute the position to draw at, between the previous and the current tick
+   *
+   * <p>Must be called before {@link #draw(GraphicsContext)}. An entity spawned during the last tick
+   * has no previous position and is drawn where it is.
+   *
+   * @param alpha Fraction of a tick elapsed since the last tick, in {@code [0, 1)}
+   */
+  public final void interpolate(double alpha) {
+    if (hasPrevious) {
+      renderX = prevX + (getX() - prevX) * alpha;
+      renderY = prevY + (getY() - prevY) * alpha;
+    } else {
+      renderX = getX();
+      renderY = getY();
+    }
+  }
+
+  /**
+   * Get the sprite the entity is drawn with
+   *
+   * @return Sprite id
+   */
+  public abstract SpriteId getSpriteId();
+
+  /**
+   * Append what is needed to draw the entity to a render snapshot
+   *
+   * <p>By default the sprite is added at the previous and the current position, with the entity
+   * size. Dead entities are skipped.
+   *
+   * @param snapshot Snapshot being written
+   */
+  public void capture(RenderSnapshot snapshot) {
+    if (!isAlive()) return;
+
+    final double x = getX();
+    final double y = getY();
+    snapshot.add(
+        getSpriteId(),
+        hasPrevious ? prevX : x,
+        hasPrevious ? prevY : y,
+        x,
+        y,
+        size.getWidth(),
+        size.getHeight());
+  }
+
+  /**
+   * Write the simulation state of the entity, e.g. for a replay keyframe
+   *
+   * <p>Subclasses with more state override this method and {@link #readState(ByteBuffer)}, calling
+   * the super method first. The world size and the previous and render positions are not written,
+   * they are only used to draw.
+   *
+   * @param out Buffer to write to
+   */
+  public void writeState(ByteBuffer out) {
+    out.putDouble(getX());
+    out.putDouble(getY());
+    out.putDouble(speed);
+    out.put((byte) (isAlive() ? 1 : 0));
+  }
+
+  /**
+   * Read the simulation state written by {@link #writeState(ByteBuffer)}
+   *
+   * @param in Buffer to read from
+   */
+  public void readState(ByteBuffer in) {
+    x = in.getDouble();
+    y = in.getDouble();
+    speed = in.getDouble();
+    aliveFlag = in.get() != 0;
+    // Drawn at its position until the next tick stores the previous one.
+    hasPrevious = false;
+  }
+
   /**
    * Update logic for each frame
    *
@@ -128,15 +289,16 @@ public abstract class AbstractEntity implements Entity {
    *   <li>Collision detection
    * </ul>
    *
-   * @param worldEntities All entities in the current world
+   * @param sink Receives the entities spawned during the tick
    */
   @Override
-  public abstract void update(List<AbstractEntity> worldEntities);
+  public abstract void update(SpawnSink sink);
 
   /**
    * Draw the entity
    *
-   * <p>The specific drawing method is implemented by subclasses.
+   * <p>The specific drawing method is implemented by subclasses. Moving entities draw at {@link
+   * #renderX} and {@link #renderY}.
    *
    * @param gc JavaFX drawing context
    */
@@ -2,9 +2,10 @@
 
 package org.thunderfighter.core.abstractor;
 
-import java.util.List;
-import javafx.scene.canvas.Canvas;
-import org.thunderfighter.game.Game;
+import java.nio.ByteBuffer;
+import org.thunderfighter.core.collision.CollisionLayer;
+import org.thunderfighter.core.entity.SpawnSink;
+import org.thunderfighter.game.World;
 
 /**
  * Abstract player aircraft class
@@ -12,10 +13,18 @@ import org.thunderfighter.game.Game;
  * <p>Inherited from {@link AbstractAircraft}, used for player-controlled aircraft. Provides player
  * input state management, shooting cooldown logic, and shooting behavior templates.
  *
- * <p>Specific shooting methods are implemented by subclasses using {@link #doShoot(List)}.
+ * <p>Specific shooting methods are implemented by subclasses using {@link #doShoot(SpawnSink)}.
  */
 public abstract class AbstractPlayerAircraft extends AbstractAircraft {
 
+  /** Bits of the input mask, see {@link #getInput()} */
+  public static final int INPUT_UP = 1;
+
+  public static final int INPUT_DOWN = 1 << 1;
+  public static final int INPUT_LEFT = 1 << 2;
+  public static final int INPUT_RIGHT = 1 << 3;
+  public static final int INPUT_SHOOT = 1 << 4;
+
   /** Firing interval (in frames) */
   protected int shootInterval;
 
@@ -28,11 +37,8 @@ public abstract class AbstractPlayerAircraft extends AbstractAircraft {
   /** Player direction input status */
   protected boolean up, down, left, right;
 
-  /** The canvas where the player's plane is located (used for rendering or input detection) */
-  protected Canvas canvas;
-
-  /** The current game instance, which can be used to obtain game status or manage entities */
-  protected Game game;
+  /** The world the player's plane is in, which is notified when the player dies */
+  protected World world;
 
   /**
    * Sets the upward movement state
@@ -79,6 +85,50 @@ public abstract class AbstractPlayerAircraft extends AbstractAircraft {
     this.wantToShoot = shooting;
   }
 
+  /**
+   * Gets the whole input state as a bit mask
+   *
+   * <p>The mask holds everything the player controls, so replaying the mask of each tick replays
+   * the player.
+   *
+   * @return Combination of the {@code INPUT_*} bits
+   */
+  public int getInput() {
+    return (up ? INPUT_UP : 0)
+        | (down ? INPUT_DOWN : 0)
+        | (left ? INPUT_LEFT : 0)
+        | (right ? INPUT_RIGHT : 0)
+        | (wantToShoot ? INPUT_SHOOT : 0);
+  }
+
+  /**
+   * Sets the whole input state from a bit mask
+   *
+   * @param input Combination of the {@code INPUT_*} bits
+   */
+  public void setInput(int input) {
+    up = (input & INPUT_UP) != 0;
+    down = (input & INPUT_DOWN) != 0;
+    left = (input & INPUT_LEFT) != 0;
+    right = (input & INPUT_RIGHT) != 0;
+    wantToShoot = (input & INPUT_SHOOT) != 0;
+  }
+
+  /** The input is not written: it is set before every tick, by the keyboard or a replay. */
+  @Override
+  public void writeState(ByteBuffer out) {
+    super.writeState(out);
+    out.putInt(shootInterval);
+    out.putInt(shootCooldown);
+  }
+
+  @Override
+  public void readState(ByteBuffer in) {
+    super.readState(in);
+    shootInterval = in.getInt();
+    shootCooldown = in.getInt();
+  }
+
   /**
    * Get whether the player wants to fire
    *
@@ -98,17 +148,27 @@ public abstract class AbstractPlayerAircraft extends AbstractAircraft {
     return true;
   }
 
+  /**
+   * Player aircraft are in the player layer
+   *
+   * @return {@link CollisionLayer#PLAYER}
+   */
+  @Override
+  public int getCollisionLayer() {
+    return CollisionLayer.PLAYER;
+  }
+
   /**
    * Shooting logic
    *
    * <p>When the shooting cooldown ends, trigger the actual shot and reset the cooldown.
    *
-   * @param worldEntities All entities in the current world
+   * @param sink Receives the entities spawned during the tick
    */
   @Override
-  public void shoot(List<AbstractEntity> worldEntities) {
+  public void shoot(SpawnSink sink) {
     if (shootCooldown <= 0) {
-      doShoot(worldEntities);
+      doShoot(sink);
       shootCooldown = shootInterval;
     }
   }
@@ -119,10 +179,10 @@ public abstract class AbstractPlayerAircraft extends AbstractAircraft {
    * <p>Responsible for basic update logic of the player's aircraft, such as firing cooldown
    * reduction. Specific movement logic is implemented by {@link #move()}.
    *
-   * @param worldEntities All entities in the current world
+   * @param sink Receives the entities spawned during the tick
    */
   @Override
-  protected void onUpdate(List<AbstractEntity> worldEntities) {
+  protected void onUpdate(SpawnSink sink) {
     if (shootCooldown > 0) {
       shootCooldown--;
     }
@@ -134,7 +194,7 @@ public abstract class AbstractPlayerAircraft extends AbstractAircraft {
    * <p>Implemented by a specific player aircraft subclass, used to generate bullets or perform
    * special attacks.
    *
-   * @param worldEntities All entities in the current world
+   * @param sink Receives the entities spawned during the tick
    */
-  protected abstract void doShoot(List<AbstractEntity> worldEntities); // implemented by subclass
+  protected abstract void doShoot(SpawnSink sink); // implemented by subclass
 }
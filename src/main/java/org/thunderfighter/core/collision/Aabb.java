@@ -0,0 +1,106 @@
+// src/main/java/org/thunderfighter/core/collision/Aabb.java
+
+package org.thunderfighter.core.collision;
+
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+
+/**
+ * Mutable axis-aligned bounding box.
+ *
+ * <p>Each entity owns one instance and overwrites it in place, so the collision path works on
+ * primitive doubles and never allocates. {@link #toBounds()} converts it to a JavaFX {@link Bounds}
+ * for callers outside the hot path.
+ *
+ * <p>Edges are inclusive, the same as {@link Bounds#intersects(Bounds)}.
+ */
+public final class Aabb {
+
+  private double minX;
+  private double minY;
+  private double maxX;
+  private double maxY;
+
+  /** An empty box intersects nothing, it is the state before the first update. */
+  private boolean empty = true;
+
+  /**
+   * Set the box from its top-left corner and size.
+   *
+   * @param x Minimum x.
+   * @param y Minimum y.
+   * @param width Width.
+   * @param height Height.
+   */
+  public void set(final double x, final double y, final double width, final double height) {
+    setMinMax(x, y, x + width, y + height);
+  }
+
+  /**
+   * Set the box from its corners.
+   *
+   * @param minX Minimum x.
+   * @param minY Minimum y.
+   * @param maxX Maximum x.
+   * @param maxY Maximum y.
+   */
+  public void setMinMax(
+      final double minX, final double minY, final double maxX, final double maxY) {
+    this.minX = minX;
+    this.minY = minY;
+    this.maxX = maxX;
+    this.maxY = maxY;
+    this.empty = false;
+  }
+
+  /** Make the box empty. */
+  public void clear() {
+    empty = true;
+  }
+
+  public boolean isEmpty() {
+    return empty;
+  }
+
+  public double getMinX() {
+    return minX;
+  }
+
+  public double getMinY() {
+    return minY;
+  }
+
+  public double getMaxX() {
+    return maxX;
+  }
+
+  public double getMaxY() {
+    return maxY;
+  }
+
+  /**
+   * Determine whether two boxes overlap.
+   *
+   * @param other Another box.
+   * @return Return {@code true} if both boxes are non-empty and overlap.
+   */
+  public boolean intersects(final Aabb other) {
+    return !empty
+        && !other.empty
+        && other.maxX >= minX
+        && other.maxY >= minY
+        && other.minX <= maxX
+        && other.minY <= maxY;
+  }
+
+  /**
+   * Convert the box to a JavaFX {@link Bounds}.
+   *
+   * <p>This allocates a new object, so it should not be called per pair or per tick.
+   *
+   * @return A new {@link BoundingBox}, or {@code null} if the box is empty.
+   */
+  public Bounds toBounds() {
+    return empty ? null : new BoundingBox(minX, minY, maxX - minX, maxY - minY);
+  }
+}
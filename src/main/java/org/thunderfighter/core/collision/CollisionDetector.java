@@ -3,24 +3,151 @@
 package org.thunderfighter.core.collision;
 
 import java.util.List;
-import javafx.geometry.Bounds;
 import org.thunderfighter.core.abstractor.AbstractAircraft;
 import org.thunderfighter.core.abstractor.AbstractBullet;
-import org.thunderfighter.core.abstractor.AbstractEnemyAircraft;
 import org.thunderfighter.core.abstractor.AbstractEntity;
-import org.thunderfighter.core.entity.Bullet;
 import org.thunderfighter.game.aircraft.enemy.BossEnemy;
 import org.thunderfighter.game.aircraft.player.PlayerAircraft;
 
-/** Collision Detector */
+/**
+ * Collision Detector
+ *
+ * <p>Each world owns one: the broadphase grid and the counters are reused from pass to pass, so a
+ * detector must not be shared by worlds ticking on different threads.
+ */
 public class CollisionDetector {
 
+  /**
+   * Strategy used to enumerate candidate pairs.
+   *
+   * <ul>
+   *   <li>BRUTE_FORCE: test every pair of entities, O(n^2).
+   *   <li>SPATIAL_HASH: only test pairs sharing a cell of a uniform grid.
+   * </ul>
+   */
+  public static enum Mode {
+    BRUTE_FORCE,
+    SPATIAL_HASH
+  }
+
+  /** Side length of a grid cell, a little larger than the biggest bullet. */
+  private static final double CELL_SIZE = 64;
+
+  /** Broadphase grid covering the world. */
+  private final SpatialHashGrid grid;
+
+  private Mode mode = Mode.SPATIAL_HASH;
+
+  // Pairs reaching the narrow phase and pairs colliding, since the last `resetCounters()`.
+  private int pairsTested = 0;
+  private int hits = 0;
+
+  /**
+   * Constructor of {@code CollisionDetector}.
+   *
+   * @param width Width of the world.
+   * @param height Height of the world.
+   */
+  public CollisionDetector(final double width, final double height) {
+    grid = new SpatialHashGrid(width, height, CELL_SIZE);
+  }
+
+  public void setMode(final Mode mode) {
+    this.mode = mode;
+  }
+
+  public Mode getMode() {
+    return mode;
+  }
+
+  public int getPairsTested() {
+    return pairsTested;
+  }
+
+  public int getHits() {
+    return hits;
+  }
+
+  /** Reset the number of pairs tested and hits, e.g. before each collision pass. */
+  public void resetCounters() {
+    pairsTested = 0;
+    hits = 0;
+  }
+
   /**
    * Detect collisions among a list of {@code AbstractEntity}.
    *
+   * <p>Candidate pairs are enumerated according to the current {@link Mode}.
+   *
+   * @param entities List of entities.
+   */
+  public void detectCollision(final List<AbstractEntity> entities) {
+    refreshAabbs(entities);
+    if (mode == Mode.SPATIAL_HASH) {
+      detectCollisionWithGrid(entities);
+    } else {
+      detectCollisionBruteForce(entities);
+    }
+  }
+
+  /**
+   * Detect collisions between two lists of entities, typically two interacting collision layers.
+   *
+   * <p>Pairs inside the same list are never tested. With {@link Mode#SPATIAL_HASH}, {@code second}
+   * is inserted into the grid and each entity of {@code first} is looked up in it, so {@code
+   * second} should be the larger list.
+   *
+   * @param first Entities of one layer.
+   * @param second Entities of another layer.
+   */
+  public void detectCollision(
+      final List<AbstractEntity> first, final List<AbstractEntity> second) {
+    if (first.isEmpty() || second.isEmpty()) {
+      return;
+    }
+    refreshAabbs(first);
+    refreshAabbs(second);
+
+    if (mode == Mode.SPATIAL_HASH) {
+      grid.build(second);
+      for (int i = 0; i < first.size(); i++) {
+        final AbstractEntity a = first.get(i);
+        if (a.isAlive()) {
+          grid.forEachCandidate(a, this::testPair);
+        }
+      }
+      return;
+    }
+
+    for (int i = 0; i < first.size(); i++) {
+      final AbstractEntity a = first.get(i);
+      for (int j = 0; j < second.size(); j++) {
+        testPair(a, second.get(j));
+      }
+    }
+  }
+
+  /**
+   * Bring the {@link Aabb} of each live entity up to date before the pairs are tested, so the
+   * narrow phase only compares primitives.
+   *
    * @param entities List of entities.
    */
-  public static void detectCollision(final List<AbstractEntity> entities) {
+  private void refreshAabbs(final List<AbstractEntity> entities) {
+    for (int i = 0; i < entities.size(); i++) {
+      final AbstractEntity entity = entities.get(i);
+      if (entity.isAlive()) {
+        entity.updateAabb();
+      }
+    }
+  }
+
+  /**
+   * Test every pair of entities.
+   *
+   * @param entities List of entities.
+   */
+  private void detectCollisionBruteForce(final List<AbstractEntity> entities) {
     final int n = entities.size();
     for (int i = 0; i < n; i++) {
       final AbstractEntity a = entities.get(i);
@@ -40,30 +167,50 @@ public class CollisionDetector {
     }
   }
 
+  /**
+   * Only test pairs of entities sharing a cell of {@link #grid}.
+   *
+   * @param entities List of entities.
+   */
+  private void detectCollisionWithGrid(final List<AbstractEntity> entities) {
+    grid.build(entities);
+    grid.forEachCandidatePair(this::testPair);
+  }
+
+  /**
+   * Narrow phase of a candidate pair reported by the grid.
+   *
+   * <p>Liveness is checked again because an earlier pair of the same tick may have killed either
+   * entity.
+   *
+   * @param a An entity.
+   * @param b Another entity.
+   */
+  private void testPair(final AbstractEntity a, final AbstractEntity b) {
+    if (a.isAlive() && b.isAlive() && isCollision(a, b)) {
+      handleCollision(a, b);
+    }
+  }
+
   /**
    * Determine whether collision happens between two entities.
    *
-   * <p>Specially, collisions won't happen between bullets or between enemies.
+   * <p>Specially, collisions won't happen between bullets, between enemies, or between an aircraft
+   * and a bullet of its own side. These pairs are rejected by their {@link CollisionLayer}.
    *
    * @param a An entity
    * @param b Another entity
    * @return Return `true` if collision happens. Otherwise, it will return `false`.
    */
-  private static boolean isCollision(final AbstractEntity a, final AbstractEntity b) {
-    // Collision won't happen between bullets and enemies.
-    if ((a instanceof Bullet && b instanceof Bullet)
-        || (a instanceof AbstractEnemyAircraft && b instanceof AbstractEnemyAircraft)) {
+  private boolean isCollision(final AbstractEntity a, final AbstractEntity b) {
+    pairsTested++;
+    // Collision won't happen between layers which do not interact.
+    if ((a.getCollisionMask() & b.getCollisionLayer()) == 0) {
       return false;
     }
 
-    // Avoid `null` value raising exceptions.
-    final Bounds b1 = a.getCollisionBounds();
-    final Bounds b2 = b.getCollisionBounds();
-    if (b1 != null && b2 != null) {
-      return b1.intersects(b2);
-    }
-
-    return false;
+    // Empty boxes (entities without size) never intersect.
+    return a.getAabb().intersects(b.getAabb());
   }
 
   /**
@@ -77,7 +224,8 @@ public class CollisionDetector {
    * @param a An entity.
    * @param b Another entity.
    */
-  private static void handleCollision(final AbstractEntity a, final AbstractEntity b) {
+  private void handleCollision(final AbstractEntity a, final AbstractEntity b) {
+    hits++;
     if (a instanceof AbstractAircraft && b instanceof AbstractAircraft) {
       handleAircraftCollision((AbstractAircraft) a, (AbstractAircraft) b);
     } else {
@@ -95,7 +243,7 @@ public class CollisionDetector {
    * @param a An {@link AbstractAircraft}.
    * @param b Another {@link AbstractAircraft}.
    */
-  private static void handleAircraftCollision(final AbstractAircraft a, final AbstractAircraft b) {
+  private void handleAircraftCollision(final AbstractAircraft a, final AbstractAircraft b) {
     if (!(a instanceof BossEnemy || b instanceof BossEnemy)) {
       a.takeDamage(1);
       b.takeDamage(1);
@@ -121,7 +269,7 @@ public class CollisionDetector {
    * @param b Another {@link AbstractEntity} which can be either {@link AbstractAircraft} or {@link
    *     AbstractBullet}.
    */
-  private static void handleAircraftBulletCollision(
+  private void handleAircraftBulletCollision(
       final AbstractEntity a, final AbstractEntity b) {
     AbstractAircraft aircraft;
     AbstractBullet bullet;
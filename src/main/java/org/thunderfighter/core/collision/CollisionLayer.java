@@ -0,0 +1,81 @@
+// src/main/java/org/thunderfighter/core/collision/CollisionLayer.java
+
+package org.thunderfighter.core.collision;
+
+/**
+ * Collision layers and masks.
+ *
+ * <p>Every entity belongs to exactly one layer, which is a single bit. The mask of a layer has one
+ * bit set for each layer it can collide with. Two entities are only tested if the mask of one
+ * contains the layer of the other.
+ *
+ * <p>The table of interactions is:
+ *
+ * <pre>
+ * | Layer         | Collides with                     |
+ * | ------------- | --------------------------------- |
+ * | PLAYER        | ENEMY, ENEMY_BULLET, BEAM         |
+ * | PLAYER_BULLET | ENEMY                             |
+ * | ENEMY         | PLAYER, PLAYER_BULLET             |
+ * | ENEMY_BULLET  | PLAYER                            |
+ * | BEAM          | PLAYER                            |
+ * </pre>
+ */
+public final class CollisionLayer {
+
+  /** Entities in no layer never collide. */
+  public static final int NONE = 0;
+
+  public static final int PLAYER = 1;
+  public static final int PLAYER_BULLET = 1 << 1;
+  public static final int ENEMY = 1 << 2;
+  public static final int ENEMY_BULLET = 1 << 3;
+  public static final int BEAM = 1 << 4;
+
+  /** Number of layers. */
+  public static final int COUNT = 5;
+
+  /** Mask of each layer, indexed by {@link #indexOf(int)}. */
+  private static final int[] MASKS = {
+    ENEMY | ENEMY_BULLET | BEAM, // PLAYER
+    ENEMY, // PLAYER_BULLET
+    PLAYER | PLAYER_BULLET, // ENEMY
+    PLAYER, // ENEMY_BULLET
+    PLAYER, // BEAM
+  };
+
+  /**
+   * Pairs of layer indices which interact with each other, each pair listed once.
+   *
+   * <p>The smaller layer (usually the player) comes first, so that the larger one is the one
+   * inserted into the broadphase.
+   */
+  public static final int[][] INTERACTING_PAIRS = {
+    {indexOf(PLAYER), indexOf(ENEMY)},
+    {indexOf(PLAYER), indexOf(ENEMY_BULLET)},
+    {indexOf(PLAYER), indexOf(BEAM)},
+    {indexOf(PLAYER_BULLET), indexOf(ENEMY)},
+  };
+
+  private CollisionLayer() {}
+
+  /**
+   * Get the index of a layer.
+   *
+   * @param layer A single layer bit.
+   * @return Index in {@code [0, COUNT)}, or {@code -1} for {@link #NONE}.
+   */
+  public static int indexOf(final int layer) {
+    return layer == NONE ? -1 : Integer.numberOfTrailingZeros(layer);
+  }
+
+  /**
+   * Get the mask of a layer.
+   *
+   * @param layer A single layer bit.
+   * @return Layers colliding with {@code layer}.
+   */
+  public static int maskOf(final int layer) {
+    return layer == NONE ? NONE : MASKS[indexOf(layer)];
+  }
+}
@@ -0,0 +1,221 @@
+// src/main/java/org/thunderfighter/core/collision/SpatialHashGrid.java
+
+package org.thunderfighter.core.collision;
+
+import java.util.Arrays;
+import java.util.List;
+import org.thunderfighter.core.abstractor.AbstractEntity;
+
+/**
+ * Uniform grid broadphase.
+ *
+ * <p>The world is split into square cells. Each live entity is inserted into every cell its
+ * {@link Aabb} overlaps, and only entities sharing a cell are reported as candidate pairs.
+ *
+ * <p>Entities partly or fully outside the world (e.g. enemies spawned above the screen) are clamped
+ * into the border cells, so no pair is ever lost.
+ *
+ * <p>Pairs can be enumerated either inside the inserted list ({@link
+ * #forEachCandidatePair(PairVisitor)}) or between an outside entity and the inserted list ({@link
+ * #forEachCandidate(AbstractEntity, PairVisitor)}), which is how two collision layers are tested
+ * against each other.
+ *
+ * <p>The grid is rebuilt from scratch on every call to {@link #build(List)} with a counting sort,
+ * and its arrays are reused between ticks, so it does not allocate once it has grown to the peak
+ * entity count.
+ */
+public class SpatialHashGrid {
+
+  /** Receives every candidate pair exactly once. */
+  @FunctionalInterface
+  public interface PairVisitor {
+    void visit(AbstractEntity a, AbstractEntity b);
+  }
+
+  private final double cellSize;
+  private final int columns;
+  private final int rows;
+
+  /** First entry of each cell in {@link #cellEntries}; {@code cellStart[c + 1]} ends cell c. */
+  private final int[] cellStart;
+
+  /** Write cursor of each cell during the fill pass. */
+  private final int[] cellCursor;
+
+  /** Entity indices grouped by cell. */
+  private int[] cellEntries = new int[256];
+
+  /** Cell range covered by each entity, {@code minCellX == -1} means not inserted. */
+  private int[] minCellX = new int[128];
+
+  private int[] minCellY = new int[128];
+  private int[] maxCellX = new int[128];
+  private int[] maxCellY = new int[128];
+
+  /** Entities of the last build. */
+  private List<AbstractEntity> entities;
+
+  /**
+   * Constructor of {@code SpatialHashGrid}.
+   *
+   * @param width World width.
+   * @param height World height.
+   * @param cellSize Side length of a cell.
+   */
+  public SpatialHashGrid(final double width, final double height, final double cellSize) {
+    this.cellSize = cellSize;
+    this.columns = Math.max(1, (int) Math.ceil(width / cellSize));
+    this.rows = Math.max(1, (int) Math.ceil(height / cellSize));
+    this.cellStart = new int[columns * rows + 1];
+    this.cellCursor = new int[columns * rows];
+  }
+
+  /**
+   * Insert all live entities into the grid.
+   *
+   * <p>The {@link Aabb} of each entity must be up to date.
+   *
+   * @param entities List of entities.
+   */
+  public void build(final List<AbstractEntity> entities) {
+    this.entities = entities;
+    final int n = entities.size();
+    ensureEntityCapacity(n);
+    Arrays.fill(cellStart, 0);
+
+    // Pass 1: compute the cell range of each entity and count entries per cell.
+    int total = 0;
+    for (int i = 0; i < n; i++) {
+      final AbstractEntity entity = entities.get(i);
+      final Aabb box = entity.getAabb();
+      if (!entity.isAlive() || box.isEmpty()) {
+        minCellX[i] = -1;
+        continue;
+      }
+
+      final int x0 = column(box.getMinX());
+      final int y0 = row(box.getMinY());
+      final int x1 = column(box.getMaxX());
+      final int y1 = row(box.getMaxY());
+      minCellX[i] = x0;
+      minCellY[i] = y0;
+      maxCellX[i] = x1;
+      maxCellY[i] = y1;
+
+      for (int cy = y0; cy <= y1; cy++) {
+        for (int cx = x0; cx <= x1; cx++) {
+          cellStart[cy * columns + cx + 1]++;
+        }
+      }
+      total += (x1 - x0 + 1) * (y1 - y0 + 1);
+    }
+
+    // Prefix sum turns counts into start offsets.
+    for (int c = 1; c < cellStart.length; c++) {
+      cellStart[c] += cellStart[c - 1];
+    }
+    System.arraycopy(cellStart, 0, cellCursor, 0, cellCursor.length);
+
+    if (cellEntries.length < total) {
+      cellEntries = new int[Math.max(total, cellEntries.length * 2)];
+    }
+
+    // Pass 2: fill cells. Indices are inserted in ascending order inside every cell.
+    for (int i = 0; i < n; i++) {
+      if (minCellX[i] < 0) {
+        continue;
+      }
+      for (int cy = minCellY[i]; cy <= maxCellY[i]; cy++) {
+        for (int cx = minCellX[i]; cx <= maxCellX[i]; cx++) {
+          cellEntries[cellCursor[cy * columns + cx]++] = i;
+        }
+      }
+    }
+  }
+
+  /**
+   * Visit each pair of entities sharing at least one cell.
+   *
+   * <p>A pair sharing several cells is only reported in the first shared cell, i.e. the cell at
+   * the top-left corner of the overlap of both cell ranges. Inside a pair, {@code a} always comes
+   * before {@code b} in the list passed to {@link #build(List)}.
+   *
+   * @param visitor Callback of candidate pairs.
+   */
+  public void forEachCandidatePair(final PairVisitor visitor) {
+    for (int cy = 0; cy < rows; cy++) {
+      for (int cx = 0; cx < columns; cx++) {
+        final int cell = cy * columns + cx;
+        final int end = cellStart[cell + 1];
+        for (int p = cellStart[cell]; p < end; p++) {
+          final int i = cellEntries[p];
+          for (int q = p + 1; q < end; q++) {
+            final int j = cellEntries[q];
+            if (Math.max(minCellX[i], minCellX[j]) != cx
+                || Math.max(minCellY[i], minCellY[j]) != cy) {
+              continue;
+            }
+            visitor.visit(entities.get(i), entities.get(j));
+          }
+        }
+      }
+    }
+  }
+
+  /**
+   * Visit each inserted entity sharing at least one cell with {@code query}.
+   *
+   * <p>{@code query} itself must not be inserted. Each candidate is reported once, with {@code
+   * query} as the first argument of the visitor.
+   *
+   * @param query An entity outside the grid.
+   * @param visitor Callback of candidate pairs.
+   */
+  public void forEachCandidate(final AbstractEntity query, final PairVisitor visitor) {
+    final Aabb box = query.getAabb();
+    if (box.isEmpty()) {
+      return;
+    }
+
+    final int x0 = column(box.getMinX());
+    final int y0 = row(box.getMinY());
+    final int x1 = column(box.getMaxX());
+    final int y1 = row(box.getMaxY());
+    for (int cy = y0; cy <= y1; cy++) {
+      for (int cx = x0; cx <= x1; cx++) {
+        final int cell = cy * columns + cx;
+        final int end = cellStart[cell + 1];
+        for (int p = cellStart[cell]; p < end; p++) {
+          final int j = cellEntries[p];
+          if (Math.max(x0, minCellX[j]) != cx || Math.max(y0, minCellY[j]) != cy) {
+            continue;
+          }
+          visitor.visit(query, entities.get(j));
+        }
+      }
+    }
+  }
+
+  private int column(final double x) {
+    return clamp((int) Math.floor(x / cellSize), columns);
+  }
+
+  private int row(final double y) {
+    return clamp((int) Math.floor(y / cellSize), rows);
+  }
+
+  private static int clamp(final int value, final int limit) {
+    return value < 0 ? 0 : (value >= limit ? limit - 1 : value);
+  }
+
+  private void ensureEntityCapacity(final int n) {
+    if (minCellX.length >= n) {
+      return;
+    }
+    final int capacity = Math.max(n, minCellX.length * 2);
+    minCellX = new int[capacity];
+    minCellY = new int[capacity];
+    maxCellX = new int[capacity];
+    maxCellY = new int[capacity];
+  }
+}
@@ -2,9 +2,6 @@
 
 package org.thunderfighter.core.entity;
 
-import java.util.List;
-import org.thunderfighter.core.abstractor.AbstractEntity;
-
 public interface Aircraft extends Entity {
   int getHp(); // current health
 
@@ -12,8 +9,8 @@ public interface Aircraft extends Entity {
 
   boolean isPlayer(); // is player aircraft or not
 
-  void shoot(List<AbstractEntity> worldEntities);
+  void shoot(SpawnSink sink);
 
   // fire bullets, but only declares the "behavior", does not create the bullets
-  // all bullet are managed by worldEntity list
+  // all bullet are spawned through the sink and managed by the world
 }
@@ -2,14 +2,12 @@
 
 package org.thunderfighter.core.entity;
 
-import java.util.List;
 import javafx.geometry.Bounds;
 import javafx.geometry.Dimension2D;
 import javafx.scene.canvas.GraphicsContext;
-import org.thunderfighter.core.abstractor.AbstractEntity;
 
 public interface Entity {
-  void update(List<AbstractEntity> worldEntities); // update object status
+  void update(SpawnSink sink); // update object status
 
   void draw(GraphicsContext gc); // used to draw objects
 
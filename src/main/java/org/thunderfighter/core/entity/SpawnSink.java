@@ -0,0 +1,17 @@
+// src/main/java/org/thunderfighter/core/entity/SpawnSink.java
+
+package org.thunderfighter.core.entity;
+
+import org.thunderfighter.core.abstractor.AbstractEntity;
+
+/**
+ * Receives the entities created and removed by other entities during a tick.
+ *
+ * <p>Requests are not applied at once: the world applies them in one batch at the end of the tick,
+ * so the entity list never changes while it is iterated.
+ */
+public interface SpawnSink {
+  void spawn(AbstractEntity entity); // add an entity to the world at the end of the tick
+
+  void despawn(AbstractEntity entity); // remove an entity from the world at the end of the tick
+}
@@ -0,0 +1,162 @@
+// src/main/java/org/thunderfighter/core/manager/AssetManager.java
+
+package org.thunderfighter.core.manager;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import javafx.scene.image.Image;
+
+/**
+ * Cache of decoded images.
+ *
+ * <p>Each image is read and decoded once and then shared by everyone asking for the same key. An
+ * image can be pre-scaled to the size it is drawn at, so that it keeps fewer pixels in memory and
+ * is not resampled on every draw.
+ *
+ * <p>Images may be requested from any thread.
+ */
+public class AssetManager {
+
+  /** Load statistics of a cached image. */
+  public static record AssetStats(String key, int width, int height, long loadNanos) {
+
+    /**
+     * Get the estimated memory used by the decoded pixels.
+     *
+     * @return Bytes, assuming 4 bytes per pixel.
+     */
+    public long bytes() {
+      return 4L * width * height;
+    }
+  }
+
+  private static record Entry(Image image, long loadNanos) {}
+
+  private static final AssetManager instance = new AssetManager();
+
+  private final ConcurrentHashMap<String, Entry> cache = new ConcurrentHashMap<>();
+
+  private AssetManager() {}
+
+  public static AssetManager getInstance() {
+    return instance;
+  }
+
+  /**
+   * Get an image at its original size.
+   *
+   * @param path Classpath resource path.
+   * @return Shared image.
+   */
+  public Image getImage(final String path) {
+    return getImage(path, 0, 0);
+  }
+
+  /**
+   * Get an image scaled to a size.
+   *
+   * @param path Classpath resource path.
+   * @param width Width to scale to, or {@code 0} to keep the original size.
+   * @param height Height to scale to, or {@code 0} to keep the original size.
+   * @return Shared image.
+   */
+  public Image getImage(final String path, final double width, final double height) {
+    final Entry entry =
+        cache.computeIfAbsent(keyOf(path, width, height), key -> load(path, width, height));
+    return entry.image();
+  }
+
+  /**
+   * Check whether an image is already cached.
+   *
+   * @param path Classpath resource path.
+   * @param width Width it is scaled to, or {@code 0}.
+   * @param height Height it is scaled to, or {@code 0}.
+   * @return {@code true} if cached.
+   */
+  public boolean isLoaded(final String path, final double width, final double height) {
+    return cache.containsKey(keyOf(path, width, height));
+  }
+
+  /**
+   * Get the statistics of every cached image.
+   *
+   * @return One entry per key, sorted by key.
+   */
+  public List<AssetStats> getStats() {
+    final List<AssetStats> stats = new ArrayList<>();
+    cache.forEach(
+        (key, entry) ->
+            stats.add(
+                new AssetStats(
+                    key,
+                    (int) entry.image().getWidth(),
+                    (int) entry.image().getHeight(),
+                    entry.loadNanos())));
+    stats.sort((a, b) -> a.key().compareTo(b.key()));
+    return stats;
+  }
+
+  /**
+   * Get the estimated memory used by all cached images.
+   *
+   * @return Bytes, see {@link AssetStats#bytes()}.
+   */
+  public long getFootprintBytes() {
+    long bytes = 0;
+    for (final AssetStats stats : getStats()) {
+      bytes += stats.bytes();
+    }
+    return bytes;
+  }
+
+  /**
+   * Write the statistics as CSV, one row per cached image.
+   *
+   * @param out Destination, not closed.
+   * @throws IOException If writing fails.
+   */
+  public void writeCsv(final Writer out) throws IOException {
+    out.write("asset,width,height,bytes,load_ns\n");
+    for (final AssetStats stats : getStats()) {
+      out.write(
+          String.format(
+              Locale.ROOT,
+              "%s,%d,%d,%d,%d\n",
+              stats.key(),
+              stats.width(),
+              stats.height(),
+              stats.bytes(),
+              stats.loadNanos()));
+    }
+  }
+
+  /** Drop every cached image. */
+  public void clear() {
+    cache.clear();
+  }
+
+  private static String keyOf(final String path, final double width, final double height) {
+    return width > 0 && height > 0 ? path + "@" + width + "x" + height : path;
+  }
+
+  private static Entry load(final String path, final double width, final double height) {
+    final long start = System.nanoTime();
+    try (InputStream in = AssetManager.class.getResourceAsStream(path)) {
+      if (in == null) {
+        throw new IllegalArgumentException("Missing image resource: " + path);
+      }
+      final Image image =
+          width > 0 && height > 0 ? new Image(in, width, height, false, true) : new Image(in);
+      return new Entry(image, System.nanoTime() - start);
+    } catch (final IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+}
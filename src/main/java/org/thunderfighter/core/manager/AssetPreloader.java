@@ -0,0 +1,92 @@
+// src/main/java/org/thunderfighter/core/manager/AssetPreloader.java
+
+package org.thunderfighter.core.manager;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import javafx.concurrent.Task;
+import org.thunderfighter.core.render.SpriteId;
+
+/**
+ * Background task decoding images into the {@link AssetManager} before they are first drawn.
+ *
+ * <p>Images are decoded in parallel on a small pool of daemon threads. Progress and message are
+ * updated after each image, so they can be bound to a progress bar. Run it with {@code new
+ * Thread(preloader).start()} or any executor; the task itself only waits for the pool.
+ */
+public class AssetPreloader extends Task<Void> {
+
+  /**
+   * An image to load.
+   *
+   * @param path Classpath resource path.
+   * @param width Width to scale to, or {@code 0} to keep the original size.
+   * @param height Height to scale to, or {@code 0} to keep the original size.
+   */
+  public static record AssetRequest(String path, double width, double height) {}
+
+  private final List<AssetRequest> requests;
+
+  /**
+   * Constructor of {@code AssetPreloader}.
+   *
+   * @param requests Images to load.
+   */
+  public AssetPreloader(final List<AssetRequest> requests) {
+    this.requests = List.copyOf(requests);
+  }
+
+  /**
+   * Get a request for every sprite, at the size it is loaded at.
+   *
+   * @return One request per {@link SpriteId}.
+   */
+  public static List<AssetRequest> sprites() {
+    final List<AssetRequest> sprites = new ArrayList<>();
+    for (final SpriteId sprite : SpriteId.values()) {
+      sprites.add(
+          new AssetRequest(sprite.getPath(), sprite.getLoadWidth(), sprite.getLoadHeight()));
+    }
+    return sprites;
+  }
+
+  @Override
+  protected Void call() throws InterruptedException, ExecutionException {
+    final int total = requests.size();
+    final int threads = Math.max(1, Math.min(total, Runtime.getRuntime().availableProcessors()));
+    final ExecutorService pool =
+        Executors.newFixedThreadPool(
+            threads,
+            runnable -> {
+              final Thread thread = new Thread(runnable, "asset-preloader");
+              thread.setDaemon(true);
+              return thread;
+            });
+    try {
+      final ExecutorCompletionService<String> done = new ExecutorCompletionService<>(pool);
+      for (final AssetRequest request : requests) {
+        done.submit(
+            () -> {
+              AssetManager.getInstance()
+                  .getImage(request.path(), request.width(), request.height());
+              return request.path();
+            });
+      }
+
+      updateProgress(0, total);
+      updateMessage("Loading...");
+      for (int i = 1; i <= total; i++) {
+        final String path = done.take().get();
+        updateProgress(i, total);
+        updateMessage("Loaded " + path);
+      }
+    } finally {
+      pool.shutdownNow();
+    }
+    return null;
+  }
+}
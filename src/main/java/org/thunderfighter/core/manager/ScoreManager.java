@@ -2,15 +2,14 @@
 
 package org.thunderfighter.core.manager;
 
+/**
+ * Score of a round.
+ *
+ * <p>Each world owns one, credited by the enemies it spawns, so several worlds can run side by
+ * side, e.g. when replays are verified in parallel.
+ */
 public class ScoreManager {
-  private static ScoreManager instance = new ScoreManager();
-  private static int score = 0;
-
-  private ScoreManager() {}
-
-  public static ScoreManager getInstance() { // call method
-    return instance;
-  }
+  private int score = 0;
 
   public int getScore() { // get from private
     return score;
@@ -20,6 +19,10 @@ public class ScoreManager {
     score += s;
   }
 
+  public void setScore(int s) { // restore a saved score
+    score = s;
+  }
+
   public void reset() { // clear the score
     score = 0;
   }
@@ -0,0 +1,24 @@
+// src/main/java/org/thunderfighter/core/metrics/BossPhaseEvent.java
+
+package org.thunderfighter.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** JFR event for the boss entering another phase. */
+@Name("org.thunderfighter.BossPhase")
+@Label("Boss Phase Change")
+@Category({"Thunder Fighter", "Simulation"})
+public class BossPhaseEvent extends Event {
+
+  @Label("From")
+  public String from;
+
+  @Label("To")
+  public String to;
+
+  @Label("HP")
+  public int hp;
+}
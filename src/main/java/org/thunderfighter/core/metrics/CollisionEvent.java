@@ -0,0 +1,28 @@
+// src/main/java/org/thunderfighter/core/metrics/CollisionEvent.java
+
+package org.thunderfighter.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** JFR event spanning the collision pass of a tick. */
+@Name("org.thunderfighter.Collision")
+@Label("Collision Pass")
+@Category({"Thunder Fighter", "Simulation"})
+@Description("Collision detection between all interacting layers")
+public class CollisionEvent extends Event {
+
+  @Label("Entities")
+  @Description("Live entities placed into a collision layer")
+  public int entities;
+
+  @Label("Pairs Tested")
+  @Description("Candidate pairs reaching the narrow phase")
+  public int pairsTested;
+
+  @Label("Hits")
+  public int hits;
+}
@@ -0,0 +1,104 @@
+// src/main/java/org/thunderfighter/core/metrics/EntityWatchdog.java
+
+package org.thunderfighter.core.metrics;
+
+import java.util.List;
+import org.thunderfighter.core.abstractor.AbstractEntity;
+import org.thunderfighter.core.render.SpriteId;
+
+/**
+ * Reports entity counts growing like a leak.
+ *
+ * <p>The smallest entity count of each window of ticks is its floor. Spawning and shooting make
+ * the count swing, but its floor stays flat unless entities are never removed. Once the floor rose
+ * for {@code windows} windows in a row, the counts per sprite are printed to {@code System.err}
+ * and the streak starts over.
+ */
+public final class EntityWatchdog {
+
+  private final int windowTicks;
+  private final int windows;
+
+  private int ticksInWindow = 0;
+  private int floor = Integer.MAX_VALUE;
+  private int previousFloor = -1;
+  private int risingWindows = 0;
+  private int reports = 0;
+
+  /**
+   * Constructor of {@code EntityWatchdog}.
+   *
+   * @param windowTicks Ticks per window.
+   * @param windows Number of windows the floor must rise in a row before a report.
+   */
+  public EntityWatchdog(final int windowTicks, final int windows) {
+    this.windowTicks = windowTicks;
+    this.windows = windows;
+  }
+
+  /**
+   * Observe the entities at the end of a tick.
+   *
+   * @param tick Number of the tick in the round.
+   * @param entities Entities of the world.
+   * @return {@code true} if a leak was reported.
+   */
+  public boolean observe(final long tick, final List<AbstractEntity> entities) {
+    floor = Math.min(floor, entities.size());
+    if (++ticksInWindow < windowTicks) {
+      return false;
+    }
+
+    risingWindows = previousFloor >= 0 && floor > previousFloor ? risingWindows + 1 : 0;
+    previousFloor = floor;
+    floor = Integer.MAX_VALUE;
+    ticksInWindow = 0;
+    if (risingWindows < windows) {
+      return false;
+    }
+
+    risingWindows = 0;
+    reports++;
+    System.err.println(describe(tick, entities));
+    return true;
+  }
+
+  /** Start over, e.g. for a new round. */
+  public void reset() {
+    ticksInWindow = 0;
+    floor = Integer.MAX_VALUE;
+    previousFloor = -1;
+    risingWindows = 0;
+  }
+
+  /**
+   * Get the number of leaks reported since the watchdog was created.
+   *
+   * @return Number of reports.
+   */
+  public int getReports() {
+    return reports;
+  }
+
+  private String describe(final long tick, final List<AbstractEntity> entities) {
+    final int[] counts = new int[SpriteId.values().length];
+    for (int i = 0; i < entities.size(); i++) {
+      counts[entities.get(i).getSpriteId().ordinal()]++;
+    }
+    final StringBuilder message =
+        new StringBuilder("Possible entity leak at tick ")
+            .append(tick)
+            .append(": the lowest entity count rose for ")
+            .append(windows)
+            .append(" windows of ")
+            .append(windowTicks)
+            .append(" ticks, now ")
+            .append(previousFloor)
+            .append(" (");
+    for (final SpriteId sprite : SpriteId.values()) {
+      message.append(sprite.name()).append('=').append(counts[sprite.ordinal()]);
+      message.append(sprite.ordinal() < counts.length - 1 ? ", " : ")");
+    }
+    return message.toString();
+  }
+}
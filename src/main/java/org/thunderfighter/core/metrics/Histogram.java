@@ -0,0 +1,115 @@
+// src/main/java/org/thunderfighter/core/metrics/Histogram.java
+
+package org.thunderfighter.core.metrics;
+
+import java.util.Arrays;
+
+/**
+ * Fixed-size log-linear histogram of non-negative {@code long} values, in the style of
+ * HdrHistogram.
+ *
+ * <p>Values below {@value #SUB_BUCKETS} are counted exactly. Above that, every power of two is split
+ * into {@value #SUB_BUCKETS} linear sub-buckets, so a reported value is at most about 3% above the
+ * recorded one, over the whole {@code long} range. The bucket array is allocated once and recording
+ * is a few shifts and an increment, so it can be called every tick.
+ */
+public final class Histogram {
+
+  private static final int SUB_BUCKET_BITS = 5;
+
+  private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+
+  /** One linear range for values below SUB_BUCKETS, then one per remaining power of two. */
+  private static final int BUCKET_COUNT = (64 - SUB_BUCKET_BITS) * SUB_BUCKETS;
+
+  private final long[] counts = new long[BUCKET_COUNT];
+
+  private long totalCount;
+  private long max;
+  private double sum;
+
+  /**
+   * Record one value.
+   *
+   * @param value Value to record, negative values are recorded as {@code 0}.
+   */
+  public void record(final long value) {
+    final long v = Math.max(0, value);
+    counts[indexOf(v)]++;
+    totalCount++;
+    sum += v;
+    if (v > max) {
+      max = v;
+    }
+  }
+
+  /** Remove every recorded value. */
+  public void reset() {
+    Arrays.fill(counts, 0);
+    totalCount = 0;
+    max = 0;
+    sum = 0;
+  }
+
+  public long getCount() {
+    return totalCount;
+  }
+
+  /**
+   * Get the largest recorded value, exactly.
+   *
+   * @return Maximum, {@code 0} if empty.
+   */
+  public long getMax() {
+    return max;
+  }
+
+  /**
+   * Get the mean of the recorded values, exactly.
+   *
+   * @return Mean, {@code 0} if empty.
+   */
+  public double getMean() {
+    return totalCount == 0 ? 0 : sum / totalCount;
+  }
+
+  /**
+   * Get the value at a percentile.
+   *
+   * @param percentile Percentile in {@code [0, 100]}.
+   * @return Highest value equivalent to the bucket holding the percentile, capped at the maximum;
+   *     {@code 0} if empty.
+   */
+  public long getValueAtPercentile(final double percentile) {
+    if (totalCount == 0) {
+      return 0;
+    }
+    final long target = Math.max(1, (long) Math.ceil(percentile / 100.0 * totalCount));
+    long seen = 0;
+    for (int i = 0; i < BUCKET_COUNT; i++) {
+      seen += counts[i];
+      if (seen >= target) {
+        return Math.min(highestValueOf(i), max);
+      }
+    }
+    return max;
+  }
+
+  private static int indexOf(final long value) {
+    if (value < SUB_BUCKETS) {
+      return (int) value;
+    }
+    final int exponent = 63 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+    final int sub = (int) (value >>> exponent) - SUB_BUCKETS;
+    return (exponent + 1) * SUB_BUCKETS + sub;
+  }
+
+  private static long highestValueOf(final int index) {
+    if (index < SUB_BUCKETS) {
+      return index;
+    }
+    final int exponent = index / SUB_BUCKETS - 1;
+    final long sub = index % SUB_BUCKETS + SUB_BUCKETS;
+    return ((sub + 1) << exponent) - 1;
+  }
+}
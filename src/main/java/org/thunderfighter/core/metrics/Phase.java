@@ -0,0 +1,23 @@
+// src/main/java/org/thunderfighter/core/metrics/Phase.java
+
+package org.thunderfighter.core.metrics;
+
+/** Timed phases of a frame. */
+public enum Phase {
+  /** Enemy generation. */
+  SPAWN,
+  /** Player shooting. */
+  SHOOT,
+  /** Collision detection between layers. */
+  COLLIDE,
+  /** Entity updates, including batched bullets. */
+  UPDATE,
+  /** Removal of dead entities. */
+  REMOVE,
+  /** A whole simulation tick. */
+  TICK,
+  /** Drawing one frame. */
+  DRAW,
+  /** Time between two frames, including the JavaFX pulse which renders the scene. */
+  FRAME
+}
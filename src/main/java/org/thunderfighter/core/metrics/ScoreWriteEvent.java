@@ -0,0 +1,24 @@
+// src/main/java/org/thunderfighter/core/metrics/ScoreWriteEvent.java
+
+package org.thunderfighter.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** JFR event spanning a write of the score file. */
+@Name("org.thunderfighter.ScoreWrite")
+@Label("Score File Write")
+@Category({"Thunder Fighter", "I/O"})
+public class ScoreWriteEvent extends Event {
+
+  @Label("Path")
+  public String path;
+
+  @Label("Scores")
+  public int scores;
+
+  @Label("Success")
+  public boolean success;
+}
@@ -0,0 +1,26 @@
+// src/main/java/org/thunderfighter/core/metrics/SpawnEvent.java
+
+package org.thunderfighter.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/** JFR event for an enemy generated by the spawner, spanning its construction. */
+@Name("org.thunderfighter.Spawn")
+@Label("Enemy Spawn")
+@Category({"Thunder Fighter", "Simulation"})
+public class SpawnEvent extends Event {
+
+  @Label("Enemy")
+  public String enemy;
+
+  @Label("X")
+  public double x;
+
+  @Label("Entities")
+  @Description("Entities in the world after the spawn")
+  public int entities;
+}
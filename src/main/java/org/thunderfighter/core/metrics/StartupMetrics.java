@@ -0,0 +1,79 @@
+// src/main/java/org/thunderfighter/core/metrics/StartupMetrics.java
+
+package org.thunderfighter.core.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+
+/**
+ * Milestones of the application startup, in milliseconds since the JVM started.
+ *
+ * <p>Each milestone is recorded once; later calls are ignored. Unrecorded milestones are {@code
+ * -1}.
+ */
+public final class StartupMetrics {
+
+  private static long preloadStartMillis = -1;
+  private static long preloadEndMillis = -1;
+  private static long firstFrameMillis = -1;
+
+  /** Utility class: prevent instantiation */
+  private StartupMetrics() {}
+
+  public static void markPreloadStart() {
+    if (preloadStartMillis < 0) {
+      preloadStartMillis = uptime();
+    }
+  }
+
+  public static void markPreloadEnd() {
+    if (preloadEndMillis < 0) {
+      preloadEndMillis = uptime();
+    }
+  }
+
+  public static void markFirstFrame() {
+    if (firstFrameMillis < 0) {
+      firstFrameMillis = uptime();
+    }
+  }
+
+  /**
+   * Get the time spent preloading assets.
+   *
+   * @return Milliseconds, or {@code -1} if the preload did not finish.
+   */
+  public static long getPreloadMillis() {
+    if (preloadStartMillis < 0 || preloadEndMillis < 0) {
+      return -1;
+    }
+    return preloadEndMillis - preloadStartMillis;
+  }
+
+  /**
+   * Get the time from the start of the JVM to the first frame.
+   *
+   * @return Milliseconds, or {@code -1} if no frame was shown yet.
+   */
+  public static long getTimeToFirstFrameMillis() {
+    return firstFrameMillis;
+  }
+
+  /**
+   * Write the milestones as CSV.
+   *
+   * @param out Destination, not closed.
+   * @throws IOException If writing fails.
+   */
+  public static void writeCsv(final Writer out) throws IOException {
+    out.write("startup,ms\n");
+    out.write("preload_start," + preloadStartMillis + "\n");
+    out.write("preload," + getPreloadMillis() + "\n");
+    out.write("first_frame," + firstFrameMillis + "\n");
+  }
+
+  private static long uptime() {
+    return ManagementFactory.getRuntimeMXBean().getUptime();
+  }
+}
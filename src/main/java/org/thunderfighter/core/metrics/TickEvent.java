@@ -0,0 +1,49 @@
+// src/main/java/org/thunderfighter/core/metrics/TickEvent.java
+
+package org.thunderfighter.core.metrics;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * JFR event spanning one {@code World.tick()}.
+ *
+ * <p>Like every event of this package it is disabled unless a recording is running, e.g. started
+ * with {@code -XX:StartFlightRecording}. A disabled event is never committed and its allocation is
+ * removed by the JIT, so the cost is close to zero.
+ */
+@Name("org.thunderfighter.Tick")
+@Label("Tick")
+@Category({"Thunder Fighter", "Simulation"})
+@Description("One simulation tick of the world")
+public class TickEvent extends Event {
+
+  @Label("Tick")
+  @Description("Number of the tick in the round")
+  public long tick;
+
+  @Label("Round")
+  public int round;
+
+  @Label("Entities")
+  @Description("Entities in the world after the tick")
+  public int entities;
+
+  @Label("Added")
+  @Description("Entities added during the tick")
+  public int added;
+
+  @Label("Removed")
+  @Description("Entities removed during the tick")
+  public int removed;
+
+  @Label("Enemies")
+  public int enemies;
+
+  @Label("Batched Bullets")
+  @Description("Bullets moved by the bullet stores")
+  public int batchedBullets;
+}
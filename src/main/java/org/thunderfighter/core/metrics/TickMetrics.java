@@ -0,0 +1,248 @@
+// src/main/java/org/thunderfighter/core/metrics/TickMetrics.java
+
+package org.thunderfighter.core.metrics;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.lang.management.ManagementFactory;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Locale;
+import org.thunderfighter.core.abstractor.AbstractEntity;
+import org.thunderfighter.core.render.SpriteId;
+
+/**
+ * Per-tick timings, allocation and entity counts of a world.
+ *
+ * <p>Phases are timed with laps, which record the time since the previous lap and start the next
+ * one:
+ *
+ * <pre>{@code
+ * long t = metrics.beginTick();
+ * spawn();
+ * t = metrics.lap(Phase.SPAWN, t);
+ * update();
+ * t = metrics.lap(Phase.UPDATE, t);
+ * metrics.endTick(entities, added, removed);
+ * }</pre>
+ *
+ * <p>Everything is stored in preallocated {@link Histogram}s and arrays, so recording does not
+ * allocate. When disabled, the calls return at once and record nothing.
+ *
+ * <p>Recording is not thread-safe. With the simulation thread, the overlay reads values written by
+ * another thread, which are then only approximately up to date.
+ */
+public final class TickMetrics {
+
+  private final EnumMap<Phase, Histogram> phases = new EnumMap<>(Phase.class);
+
+  private final Histogram allocatedBytes = new Histogram();
+
+  // Entities added to and removed from the world per tick.
+  private final Histogram added = new Histogram();
+  private final Histogram removed = new Histogram();
+
+  /** Entity count per sprite at the end of the last tick. */
+  private final int[] entityCounts = new int[SpriteId.values().length];
+
+  private final com.sun.management.ThreadMXBean threads = allocationCounter();
+
+  private boolean enabled = true;
+
+  private long tickStart;
+  private long allocatedAtStart;
+
+  public TickMetrics() {
+    for (final Phase phase : Phase.values()) {
+      phases.put(phase, new Histogram());
+    }
+  }
+
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  public boolean isEnabled() {
+    return enabled;
+  }
+
+  /**
+   * Get the current time, as the start of a phase.
+   *
+   * @return {@link System#nanoTime()}, or {@code 0} if disabled.
+   */
+  public long now() {
+    return enabled ? System.nanoTime() : 0;
+  }
+
+  /**
+   * Record the duration of a phase and start the next one.
+   *
+   * @param phase Phase which just finished.
+   * @param start Start of the phase, from {@link #now()} or a previous lap.
+   * @return Start of the next phase.
+   */
+  public long lap(final Phase phase, final long start) {
+    if (!enabled) {
+      return 0;
+    }
+    final long end = System.nanoTime();
+    phases.get(phase).record(end - start);
+    return end;
+  }
+
+  /**
+   * Record a duration measured elsewhere.
+   *
+   * @param phase Phase the duration belongs to.
+   * @param nanos Duration in nanoseconds.
+   */
+  public void record(final Phase phase, final long nanos) {
+    if (enabled) {
+      phases.get(phase).record(nanos);
+    }
+  }
+
+  /**
+   * Start a tick.
+   *
+   * @return Start of the first phase.
+   */
+  public long beginTick() {
+    if (!enabled) {
+      return 0;
+    }
+    allocatedAtStart = threads != null ? threads.getCurrentThreadAllocatedBytes() : 0;
+    tickStart = System.nanoTime();
+    return tickStart;
+  }
+
+  /**
+   * Finish a tick, recording its duration, its allocation and the entity counts.
+   *
+   * @param entities Entities of the world after the tick.
+   * @param addedEntities Number of entities added during the tick.
+   * @param removedEntities Number of entities removed during the tick.
+   */
+  public void endTick(
+      final List<AbstractEntity> entities, final int addedEntities, final int removedEntities) {
+    if (!enabled) {
+      return;
+    }
+    added.record(addedEntities);
+    removed.record(removedEntities);
+    phases.get(Phase.TICK).record(System.nanoTime() - tickStart);
+    if (threads != null) {
+      allocatedBytes.record(threads.getCurrentThreadAllocatedBytes() - allocatedAtStart);
+    }
+
+    Arrays.fill(entityCounts, 0);
+    for (int i = 0; i < entities.size(); i++) {
+      entityCounts[entities.get(i).getSpriteId().ordinal()]++;
+    }
+  }
+
+  public Histogram get(final Phase phase) {
+    return phases.get(phase);
+  }
+
+  /**
+   * Get the bytes allocated by the simulating thread per tick.
+   *
+   * @return Histogram of bytes, empty if the JVM cannot measure it.
+   */
+  public Histogram getAllocatedBytes() {
+    return allocatedBytes;
+  }
+
+  /**
+   * Get the number of entities added to the world per tick.
+   *
+   * @return Histogram of entity counts.
+   */
+  public Histogram getAdded() {
+    return added;
+  }
+
+  /**
+   * Get the number of entities removed from the world per tick.
+   *
+   * @return Histogram of entity counts.
+   */
+  public Histogram getRemoved() {
+    return removed;
+  }
+
+  /**
+   * Get the number of entities drawn with a sprite at the end of the last tick.
+   *
+   * @param sprite Sprite id.
+   * @return Number of entities.
+   */
+  public int getEntityCount(final SpriteId sprite) {
+    return entityCounts[sprite.ordinal()];
+  }
+
+  /** Clear every histogram. */
+  public void reset() {
+    for (final Histogram histogram : phases.values()) {
+      histogram.reset();
+    }
+    allocatedBytes.reset();
+    added.reset();
+    removed.reset();
+  }
+
+  /**
+   * Write all metrics as CSV.
+   *
+   * <p>One row per phase with nanosecond statistics, one row each for the allocated bytes and the
+   * entities added and removed per tick, then one row per sprite with the entity count of the last
+   * tick.
+   *
+   * @param out Destination, not closed.
+   * @throws IOException If writing fails.
+   */
+  public void writeCsv(final Writer out) throws IOException {
+    out.write("metric,unit,count,mean,p50,p90,p99,max\n");
+    for (final Phase phase : Phase.values()) {
+      writeRow(out, phase.name(), "ns", phases.get(phase));
+    }
+    writeRow(out, "ALLOCATED", "bytes", allocatedBytes);
+    writeRow(out, "ADDED", "entities", added);
+    writeRow(out, "REMOVED", "entities", removed);
+
+    out.write("\nentity,count\n");
+    for (final SpriteId sprite : SpriteId.values()) {
+      out.write(sprite.name() + "," + entityCounts[sprite.ordinal()] + "\n");
+    }
+  }
+
+  private static void writeRow(
+      final Writer out, final String name, final String unit, final Histogram histogram)
+      throws IOException {
+    out.write(
+        String.format(
+            Locale.ROOT,
+            "%s,%s,%d,%.1f,%d,%d,%d,%d\n",
+            name,
+            unit,
+            histogram.getCount(),
+            histogram.getMean(),
+            histogram.getValueAtPercentile(50),
+            histogram.getValueAtPercentile(90),
+            histogram.getValueAtPercentile(99),
+            histogram.getMax()));
+  }
+
+  /** Get the HotSpot thread bean if it can measure allocation, {@code null} otherwise. */
+  private static com.sun.management.ThreadMXBean allocationCounter() {
+    if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+        && bean.isThreadAllocatedMemorySupported()) {
+      bean.setThreadAllocatedMemoryEnabled(true);
+      return bean;
+    }
+    return null;
+  }
+}
@@ -0,0 +1,14 @@
+// src/main/java/org/thunderfighter/core/render/RenderLayer.java
+
+package org.thunderfighter.core.render;
+
+/** Layers sprites are drawn in, from back to front. */
+public enum RenderLayer {
+  /** Full-screen background, drawn by the game before any sprite. */
+  BACKGROUND,
+  ENEMIES,
+  BULLETS,
+  PLAYER,
+  /** Lasers, stretched and rotated, so never taken from the atlas. */
+  BEAMS
+}
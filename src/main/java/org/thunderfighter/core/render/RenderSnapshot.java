@@ -0,0 +1,223 @@
+// src/main/java/org/thunderfighter/core/render/RenderSnapshot.java
+
+package org.thunderfighter.core.render;
+
+import java.util.Arrays;
+import org.thunderfighter.utils.Constant.GAME_STATE;
+
+/**
+ * Everything needed to draw one tick of the world.
+ *
+ * <p>The simulation writes a snapshot after each tick and the renderer reads it, possibly on
+ * another thread; see {@link SnapshotBuffer} for the hand-over. Sprites are stored in parallel
+ * primitive arrays which grow but are never shrunk, so a reused snapshot does not allocate once it
+ * reached the peak entity count.
+ *
+ * <p>Each sprite has its position at the previous and the current tick, for render interpolation.
+ * Beams are anchored at the middle of their start edge and drawn rotated by {@code rotation}
+ * degrees, with their current length as height.
+ */
+public final class RenderSnapshot {
+
+  private static final int INITIAL_CAPACITY = 256;
+
+  private int count;
+
+  private SpriteId[] sprites = new SpriteId[INITIAL_CAPACITY];
+  private double[] prevX = new double[INITIAL_CAPACITY];
+  private double[] prevY = new double[INITIAL_CAPACITY];
+  private double[] x = new double[INITIAL_CAPACITY];
+  private double[] y = new double[INITIAL_CAPACITY];
+  private double[] width = new double[INITIAL_CAPACITY];
+  private double[] height = new double[INITIAL_CAPACITY];
+  private double[] rotation = new double[INITIAL_CAPACITY];
+  private boolean[] beam = new boolean[INITIAL_CAPACITY];
+
+  // HUD and round state.
+  private long tick;
+  private long timeNanos;
+  private int round;
+  private int score;
+  private int playerHp;
+  private GAME_STATE outcome = GAME_STATE.RUNNING;
+
+  /** Remove every sprite before the snapshot is written again. */
+  public void clear() {
+    count = 0;
+  }
+
+  /**
+   * Append an upright sprite.
+   *
+   * @param sprite Sprite id.
+   * @param prevX X at the previous tick.
+   * @param prevY Y at the previous tick.
+   * @param x X at the current tick.
+   * @param y Y at the current tick.
+   * @param width Drawn width.
+   * @param height Drawn height.
+   */
+  public void add(
+      final SpriteId sprite,
+      final double prevX,
+      final double prevY,
+      final double x,
+      final double y,
+      final double width,
+      final double height) {
+    append(sprite, prevX, prevY, x, y, width, height, 0, false);
+  }
+
+  /**
+   * Append a beam, which does not move.
+   *
+   * @param sprite Sprite id.
+   * @param startX X of the middle of the start edge.
+   * @param startY Y of the middle of the start edge.
+   * @param thickness Beam width.
+   * @param length Current beam length.
+   * @param rotation Rotation in degrees, {@code 0} points down.
+   */
+  public void addBeam(
+      final SpriteId sprite,
+      final double startX,
+      final double startY,
+      final double thickness,
+      final double length,
+      final double rotation) {
+    append(sprite, startX, startY, startX, startY, thickness, length, rotation, true);
+  }
+
+  private void append(
+      final SpriteId sprite,
+      final double prevX,
+      final double prevY,
+      final double x,
+      final double y,
+      final double width,
+      final double height,
+      final double rotation,
+      final boolean beam) {
+    if (count == sprites.length) {
+      grow();
+    }
+    final int i = count++;
+    this.sprites[i] = sprite;
+    this.prevX[i] = prevX;
+    this.prevY[i] = prevY;
+    this.x[i] = x;
+    this.y[i] = y;
+    this.width[i] = width;
+    this.height[i] = height;
+    this.rotation[i] = rotation;
+    this.beam[i] = beam;
+  }
+
+  /**
+   * Set the HUD and round state of the snapshot.
+   *
+   * @param tick Number of ticks run in the round.
+   * @param round Number of the round, increased by each reset of the world.
+   * @param score Current score.
+   * @param playerHp Current health of the player.
+   * @param outcome Outcome of the round.
+   */
+  public void setState(
+      final long tick,
+      final int round,
+      final int score,
+      final int playerHp,
+      final GAME_STATE outcome) {
+    this.tick = tick;
+    this.round = round;
+    this.score = score;
+    this.playerHp = playerHp;
+    this.outcome = outcome;
+  }
+
+  public void setTimeNanos(final long timeNanos) {
+    this.timeNanos = timeNanos;
+  }
+
+  public int size() {
+    return count;
+  }
+
+  public SpriteId getSprite(final int i) {
+    return sprites[i];
+  }
+
+  public double getPrevX(final int i) {
+    return prevX[i];
+  }
+
+  public double getPrevY(final int i) {
+    return prevY[i];
+  }
+
+  public double getX(final int i) {
+    return x[i];
+  }
+
+  public double getY(final int i) {
+    return y[i];
+  }
+
+  public double getWidth(final int i) {
+    return width[i];
+  }
+
+  public double getHeight(final int i) {
+    return height[i];
+  }
+
+  public double getRotation(final int i) {
+    return rotation[i];
+  }
+
+  public boolean isBeam(final int i) {
+    return beam[i];
+  }
+
+  public long getTick() {
+    return tick;
+  }
+
+  /**
+   * Get the time the snapshot was published.
+   *
+   * @return {@link System#nanoTime()} at publication.
+   */
+  public long getTimeNanos() {
+    return timeNanos;
+  }
+
+  public int getRound() {
+    return round;
+  }
+
+  public int getScore() {
+    return score;
+  }
+
+  public int getPlayerHp() {
+    return playerHp;
+  }
+
+  public GAME_STATE getOutcome() {
+    return outcome;
+  }
+
+  private void grow() {
+    final int capacity = sprites.length * 2;
+    sprites = Arrays.copyOf(sprites, capacity);
+    prevX = Arrays.copyOf(prevX, capacity);
+    prevY = Arrays.copyOf(prevY, capacity);
+    x = Arrays.copyOf(x, capacity);
+    y = Arrays.copyOf(y, capacity);
+    width = Arrays.copyOf(width, capacity);
+    height = Arrays.copyOf(height, capacity);
+    rotation = Arrays.copyOf(rotation, capacity);
+    beam = Arrays.copyOf(beam, capacity);
+  }
+}
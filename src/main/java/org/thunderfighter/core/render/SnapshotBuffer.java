@@ -0,0 +1,65 @@
+// src/main/java/org/thunderfighter/core/render/SnapshotBuffer.java
+
+package org.thunderfighter.core.render;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Lock-free hand-over of {@link RenderSnapshot}s from one writer thread to one reader thread.
+ *
+ * <p>Three snapshots rotate between the roles back (written by the simulation), ready (the latest
+ * published one) and front (drawn by the renderer). Publishing and acquiring are a single atomic
+ * swap with the ready slot, so neither side ever waits for the other, the writer never touches the
+ * snapshot being drawn and no snapshot is allocated after construction.
+ *
+ * <p>The writer may publish several times between two reads; the reader then skips to the latest
+ * one. If nothing new was published, the reader gets the same front snapshot again.
+ */
+public final class SnapshotBuffer {
+
+  /** Set in {@link #ready} when the ready snapshot was not acquired yet. */
+  private static final int FRESH = 4;
+
+  private static final int INDEX_MASK = 3;
+
+  private final RenderSnapshot[] snapshots = {
+    new RenderSnapshot(), new RenderSnapshot(), new RenderSnapshot()
+  };
+
+  /** Index of the ready snapshot, plus {@link #FRESH}. */
+  private final AtomicInteger ready = new AtomicInteger(1);
+
+  /** Owned by the writer. */
+  private int back = 0;
+
+  /** Owned by the reader. */
+  private int front = 2;
+
+  /**
+   * Get the snapshot to write. Writer thread only.
+   *
+   * @return The back snapshot, to be filled and then {@link #publish() published}.
+   */
+  public RenderSnapshot getBack() {
+    return snapshots[back];
+  }
+
+  /** Publish the back snapshot and take the previous ready one as new back. Writer thread only. */
+  public void publish() {
+    back = ready.getAndSet(back | FRESH) & INDEX_MASK;
+  }
+
+  /**
+   * Get the latest published snapshot. Reader thread only.
+   *
+   * <p>The returned snapshot stays untouched by the writer until the next call.
+   *
+   * @return The front snapshot.
+   */
+  public RenderSnapshot acquire() {
+    if ((ready.get() & FRESH) != 0) {
+      front = ready.getAndSet(front) & INDEX_MASK;
+    }
+    return snapshots[front];
+  }
+}
@@ -0,0 +1,172 @@
+// src/main/java/org/thunderfighter/core/render/SnapshotRenderer.java
+
+package org.thunderfighter.core.render;
+
+import java.util.Arrays;
+import javafx.scene.canvas.GraphicsContext;
+import javafx.scene.image.Image;
+
+/**
+ * Draws a {@link RenderSnapshot}, without access to any entity.
+ *
+ * <p>Sprites are drawn layer by layer, see {@link RenderLayer}, and within a layer in snapshot
+ * order. Upright sprites are copied from a {@link TextureAtlas} at their own size, so consecutive
+ * draws share one texture and are never scaled. Beams, and sprites the atlas cannot hold, are drawn
+ * from their own image, scaled.
+ *
+ * <p>Sprites whose bounding box does not intersect the viewport are culled before any draw call is
+ * issued, e.g. enemies entering from above or curved bullets leaving at the sides. The number of
+ * drawn and culled sprites of each layer is kept for the last frame.
+ *
+ * <p>The renderer keeps its buckets between frames, so drawing does not allocate once the largest
+ * layer was seen. Must be used on the JavaFX Application Thread.
+ */
+public final class SnapshotRenderer {
+
+  private static final RenderLayer[] LAYERS = RenderLayer.values();
+
+  private final TextureAtlas atlas = new TextureAtlas();
+
+  /** Snapshot indices of the sprites of each layer, indexed by {@link RenderLayer#ordinal()}. */
+  private final int[][] layerSprites = new int[LAYERS.length][64];
+
+  private final int[] layerCounts = new int[LAYERS.length];
+
+  // Sprites drawn and culled in the last frame, indexed by `RenderLayer.ordinal()`.
+  private final int[] drawn = new int[LAYERS.length];
+  private final int[] culled = new int[LAYERS.length];
+
+  private final double viewportWidth;
+  private final double viewportHeight;
+
+  /**
+   * Constructor of {@code SnapshotRenderer}.
+   *
+   * @param viewportWidth Width of the drawn area, starting at {@code x = 0}.
+   * @param viewportHeight Height of the drawn area, starting at {@code y = 0}.
+   */
+  public SnapshotRenderer(final double viewportWidth, final double viewportHeight) {
+    this.viewportWidth = viewportWidth;
+    this.viewportHeight = viewportHeight;
+  }
+
+  public TextureAtlas getAtlas() {
+    return atlas;
+  }
+
+  /**
+   * Get the number of sprites of a layer drawn in the last frame.
+   *
+   * @param layer Layer.
+   * @return Number of sprites.
+   */
+  public int getDrawn(final RenderLayer layer) {
+    return drawn[layer.ordinal()];
+  }
+
+  /**
+   * Get the number of sprites of a layer culled in the last frame.
+   *
+   * @param layer Layer.
+   * @return Number of sprites.
+   */
+  public int getCulled(final RenderLayer layer) {
+    return culled[layer.ordinal()];
+  }
+
+  /**
+   * Draw every sprite of a snapshot, blended between its previous and current position.
+   *
+   * <p>The background layer is left to the caller.
+   *
+   * @param gc JavaFX drawing context.
+   * @param snapshot Snapshot to draw.
+   * @param alpha Fraction of a tick elapsed since the snapshot, in {@code [0, 1]}.
+   */
+  public void draw(final GraphicsContext gc, final RenderSnapshot snapshot, final double alpha) {
+    sortIntoLayers(snapshot);
+    Arrays.fill(drawn, 0);
+    Arrays.fill(culled, 0);
+
+    final Image atlasImage = atlas.getImage();
+    for (final RenderLayer layer : LAYERS) {
+      final int[] sprites = layerSprites[layer.ordinal()];
+      final int n = layerCounts[layer.ordinal()];
+      for (int k = 0; k < n; k++) {
+        final int i = sprites[k];
+        final double prevX = snapshot.getPrevX(i);
+        final double prevY = snapshot.getPrevY(i);
+        final double x = prevX + (snapshot.getX(i) - prevX) * alpha;
+        final double y = prevY + (snapshot.getY(i) - prevY) * alpha;
+        final double w = snapshot.getWidth(i);
+        final double h = snapshot.getHeight(i);
+        final SpriteId sprite = snapshot.getSprite(i);
+        final boolean beam = snapshot.isBeam(i);
+
+        if (beam ? !isBeamVisible(x, y, w, h, snapshot.getRotation(i)) : !isVisible(x, y, w, h)) {
+          culled[layer.ordinal()]++;
+          continue;
+        }
+        drawn[layer.ordinal()]++;
+
+        if (beam) {
+          // Beams are anchored at the middle of their start edge, see LaserBullet.draw.
+          gc.save();
+          gc.translate(x, y);
+          gc.rotate(snapshot.getRotation(i));
+          gc.drawImage(sprite.getImage(), -w / 2.0, 0, w, h);
+          gc.restore();
+          continue;
+        }
+
+        final int region = atlas.find(sprite, w, h);
+        if (region >= 0) {
+          gc.drawImage(atlasImage, atlas.getX(region), atlas.getY(region), w, h, x, y, w, h);
+        } else {
+          gc.drawImage(sprite.getImage(), x, y, w, h);
+        }
+      }
+    }
+  }
+
+  /** Check whether a box intersects the viewport. */
+  private boolean isVisible(final double x, final double y, final double w, final double h) {
+    return x + w > 0 && y + h > 0 && x < viewportWidth && y < viewportHeight;
+  }
+
+  /**
+   * Check whether the bounding box of a rotated beam intersects the viewport.
+   *
+   * <p>The box spans the start and the end of the beam, widened by half its thickness on each side.
+   */
+  private boolean isBeamVisible(
+      final double x,
+      final double y,
+      final double thickness,
+      final double length,
+      final double rotation) {
+    final double radians = Math.toRadians(rotation);
+    // Rotation 0 points down, rotating clockwise on screen.
+    final double endX = x - Math.sin(radians) * length;
+    final double endY = y + Math.cos(radians) * length;
+    final double half = thickness / 2.0;
+    final double minX = Math.min(x, endX) - half;
+    final double minY = Math.min(y, endY) - half;
+    return isVisible(minX, minY, Math.abs(endX - x) + thickness, Math.abs(endY - y) + thickness);
+  }
+
+  /** Fill {@link #layerSprites} with the snapshot indices of each layer. */
+  private void sortIntoLayers(final RenderSnapshot snapshot) {
+    Arrays.fill(layerCounts, 0);
+    final int n = snapshot.size();
+    for (int i = 0; i < n; i++) {
+      final int layer = snapshot.getSprite(i).getLayer().ordinal();
+      int[] sprites = layerSprites[layer];
+      if (layerCounts[layer] == sprites.length) {
+        sprites = Arrays.copyOf(sprites, sprites.length * 2);
+        layerSprites[layer] = sprites;
+      }
+      sprites[layerCounts[layer]++] = i;
+    }
+  }
+}
@@ -0,0 +1,118 @@
+// src/main/java/org/thunderfighter/core/render/SpriteId.java
+
+package org.thunderfighter.core.render;
+
+import javafx.scene.image.Image;
+import org.thunderfighter.core.manager.AssetManager;
+import org.thunderfighter.game.aircraft.enemy.BossEnemy;
+import org.thunderfighter.game.aircraft.enemy.EliteEnemy;
+import org.thunderfighter.game.aircraft.enemy.NormalEnemy;
+import org.thunderfighter.game.aircraft.player.PlayerAircraft;
+import org.thunderfighter.game.bullet.PlayerBullet;
+import org.thunderfighter.utils.Constant;
+
+/**
+ * Identifier of every sprite an entity can be drawn with.
+ *
+ * <p>The simulation only hands out ids, e.g. in a {@link RenderSnapshot}. The image behind an id
+ * is decoded on the first {@link #getImage()}, which only the renderer calls, so a headless world
+ * never loads any image.
+ *
+ * <p>Images come from the {@link AssetManager}. Sprites always drawn at one size are pre-scaled to
+ * it when {@code Constant.PRESCALE_SPRITES} is set; bullets of several sizes and beams are not.
+ */
+public enum SpriteId {
+  PLAYER(
+      RenderLayer.PLAYER,
+      "/images/Aircraft/PlayerAircraft.png",
+      PlayerAircraft.SIZE.getWidth(),
+      PlayerAircraft.SIZE.getHeight()),
+  NORMAL_ENEMY(
+      RenderLayer.ENEMIES,
+      "/images/Aircraft/NormalEnemy.png",
+      NormalEnemy.SIZE.getWidth(),
+      NormalEnemy.SIZE.getHeight()),
+  ELITE_ENEMY(
+      RenderLayer.ENEMIES,
+      "/images/Aircraft/EliteEnemy.png",
+      EliteEnemy.SIZE.getWidth(),
+      EliteEnemy.SIZE.getHeight()),
+  BOSS(
+      RenderLayer.ENEMIES,
+      "/images/Aircraft/BossEnemy.png",
+      BossEnemy.SIZE.getWidth(),
+      BossEnemy.SIZE.getHeight()),
+  PLAYER_BULLET(
+      RenderLayer.BULLETS,
+      "/images/Bullet/player_bullet.png",
+      PlayerBullet.SIZE.getWidth(),
+      PlayerBullet.SIZE.getHeight()),
+  ENEMY_BULLET(RenderLayer.BULLETS, "/images/Bullet/enemy_bullet.png"),
+  LASER(RenderLayer.BEAMS, "/images/Bullet/laser.jpg");
+
+  private final RenderLayer layer;
+
+  private final String path;
+
+  // Size the sprite is always drawn at, or `0` if it varies.
+  private final double width;
+  private final double height;
+
+  private Image image;
+
+  SpriteId(final RenderLayer layer, final String path) {
+    this(layer, path, 0, 0);
+  }
+
+  SpriteId(final RenderLayer layer, final String path, final double width, final double height) {
+    this.layer = layer;
+    this.path = path;
+    this.width = width;
+    this.height = height;
+  }
+
+  public RenderLayer getLayer() {
+    return layer;
+  }
+
+  /**
+   * Get the resource path of the sprite.
+   *
+   * @return Classpath resource path.
+   */
+  public String getPath() {
+    return path;
+  }
+
+  /**
+   * Get the width the image is loaded at.
+   *
+   * @return Width, or {@code 0} for the original size.
+   */
+  public double getLoadWidth() {
+    return Constant.PRESCALE_SPRITES ? width : 0;
+  }
+
+  /**
+   * Get the height the image is loaded at.
+   *
+   * @return Height, or {@code 0} for the original size.
+   */
+  public double getLoadHeight() {
+    return Constant.PRESCALE_SPRITES ? height : 0;
+  }
+
+  /**
+   * Get the sprite image, taken from the {@link AssetManager} on the first call.
+   *
+   * <p>Must be called on the JavaFX Application Thread.
+   *
+   * @return Sprite image.
+   */
+  public Image getImage() {
+    if (image == null) {
+      image = AssetManager.getInstance().getImage(path, getLoadWidth(), getLoadHeight());
+    }
+    return image;
+  }
+}
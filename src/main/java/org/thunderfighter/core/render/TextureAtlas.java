@@ -0,0 +1,160 @@
+// src/main/java/org/thunderfighter/core/render/TextureAtlas.java
+
+package org.thunderfighter.core.render;
+
+import java.util.Arrays;
+import javafx.scene.image.Image;
+import javafx.scene.image.PixelReader;
+import javafx.scene.image.PixelWriter;
+import javafx.scene.image.WritableImage;
+import org.thunderfighter.core.manager.AssetManager;
+
+/**
+ * One image holding every sprite at the sizes it is drawn at.
+ *
+ * <p>Drawing a region of the atlas with the source-rectangle {@code drawImage} overload at its own
+ * size needs no scaling, and all sprites share one texture instead of one texture per image.
+ *
+ * <p>Regions are packed on demand: the first request for a sprite at a new size decodes the sprite
+ * at that size and copies it into the next free spot, shelf by shelf. Each region is surrounded by
+ * a transparent gutter so that smoothing never samples a neighbour. Sizes which are not whole
+ * pixels, regions larger than {@link #MAX_REGION} and regions not fitting anymore are not packed;
+ * the caller then draws the sprite image scaled.
+ *
+ * <p>Must be used on the JavaFX Application Thread.
+ */
+public final class TextureAtlas {
+
+  /** Side length of the atlas image. */
+  public static final int SIZE = 512;
+
+  /** Largest width or height packed into the atlas. */
+  public static final int MAX_REGION = 256;
+
+  private static final int GUTTER = 1;
+
+  private final WritableImage image = new WritableImage(SIZE, SIZE);
+
+  // Regions, as parallel arrays indexed by region.
+  private int count = 0;
+  private int[] regionX = new int[16];
+  private int[] regionY = new int[16];
+  private int[] regionWidth = new int[16];
+  private int[] regionHeight = new int[16];
+
+  /** Regions of each sprite, indexed by {@link SpriteId#ordinal()}. */
+  private final int[][] regionsBySprite = new int[SpriteId.values().length][0];
+
+  // Shelf packing cursor.
+  private int shelfX = 0;
+  private int shelfY = 0;
+  private int shelfHeight = 0;
+
+  public Image getImage() {
+    return image;
+  }
+
+  /**
+   * Find the region of a sprite drawn at a size, packing it if needed.
+   *
+   * @param sprite Sprite id.
+   * @param width Drawn width.
+   * @param height Drawn height.
+   * @return Region index, or {@code -1} if the sprite cannot be drawn from the atlas.
+   */
+  public int find(final SpriteId sprite, final double width, final double height) {
+    final int w = (int) width;
+    final int h = (int) height;
+    final int[] regions = regionsBySprite[sprite.ordinal()];
+    for (final int region : regions) {
+      if (regionWidth[region] == w && regionHeight[region] == h) {
+        return regionX[region] < 0 ? -1 : region;
+      }
+    }
+    if (w != width || h != height) {
+      return -1;
+    }
+    return pack(sprite, w, h);
+  }
+
+  public int getX(final int region) {
+    return regionX[region];
+  }
+
+  public int getY(final int region) {
+    return regionY[region];
+  }
+
+  public int getWidth(final int region) {
+    return regionWidth[region];
+  }
+
+  public int getHeight(final int region) {
+    return regionHeight[region];
+  }
+
+  /**
+   * Get the number of packed regions.
+   *
+   * @return Number of regions.
+   */
+  public int size() {
+    return count;
+  }
+
+  /**
+   * Copy a sprite decoded at a size into the next free spot.
+   *
+   * <p>A region which cannot be packed is remembered with a negative position, so it is not tried
+   * again.
+   */
+  private int pack(final SpriteId sprite, final int w, final int h) {
+    if (w <= 0 || h <= 0 || w > MAX_REGION || h > MAX_REGION) {
+      return remember(sprite, -1, -1, w, h);
+    }
+    if (shelfX + w + 2 * GUTTER > SIZE) {
+      shelfX = 0;
+      shelfY += shelfHeight;
+      shelfHeight = 0;
+    }
+    if (shelfY + h + 2 * GUTTER > SIZE) {
+      return remember(sprite, -1, -1, w, h);
+    }
+
+    final int x = shelfX + GUTTER;
+    final int y = shelfY + GUTTER;
+    final Image source = AssetManager.getInstance().getImage(sprite.getPath(), w, h);
+    final PixelReader reader = source.getPixelReader();
+    if (reader == null || source.getWidth() != w || source.getHeight() != h) {
+      return remember(sprite, -1, -1, w, h);
+    }
+    final PixelWriter writer = image.getPixelWriter();
+    writer.setPixels(x, y, w, h, reader, 0, 0);
+
+    shelfX += w + 2 * GUTTER;
+    shelfHeight = Math.max(shelfHeight, h + 2 * GUTTER);
+    return remember(sprite, x, y, w, h);
+  }
+
+  /** Add a region, returning its index, or {@code -1} for a region which was not packed. */
+  private int remember(final SpriteId sprite, final int x, final int y, final int w, final int h) {
+    if (count == regionX.length) {
+      final int capacity = count * 2;
+      regionX = Arrays.copyOf(regionX, capacity);
+      regionY = Arrays.copyOf(regionY, capacity);
+      regionWidth = Arrays.copyOf(regionWidth, capacity);
+      regionHeight = Arrays.copyOf(regionHeight, capacity);
+    }
+    final int region = count++;
+    regionX[region] = x;
+    regionY[region] = y;
+    regionWidth[region] = w;
+    regionHeight[region] = h;
+
+    final int[] regions = regionsBySprite[sprite.ordinal()];
+    final int[] grown = Arrays.copyOf(regions, regions.length + 1);
+    grown[regions.length] = region;
+    regionsBySprite[sprite.ordinal()] = grown;
+    return x < 0 ? -1 : region;
+  }
+}
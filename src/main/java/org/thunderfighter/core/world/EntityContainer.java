@@ -0,0 +1,132 @@
+// src/main/java/org/thunderfighter/core/world/EntityContainer.java
+
+package org.thunderfighter.core.world;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.RandomAccess;
+import java.util.function.Consumer;
+import org.thunderfighter.core.abstractor.AbstractEntity;
+
+/**
+ * Entity list of a world, removing dead entities in one pass per tick.
+ *
+ * <p>Dead entities stay in place until {@link #compact(Consumer)}, which moves every live entity
+ * down over the dead ones in a single pass, keeping their order. Removing {@code k} of {@code n}
+ * entities therefore costs {@code O(n)} instead of the {@code O(k * n)} of removing them one by
+ * one from an {@link java.util.ArrayList}. Keeping the order keeps drawing and collision order,
+ * and so the simulation, independent of when entities died.
+ *
+ * <p>The container also counts the entities added and removed since {@link #resetCounts()}.
+ */
+public final class EntityContainer extends AbstractList<AbstractEntity> implements RandomAccess {
+
+  private AbstractEntity[] elements = new AbstractEntity[256];
+  private int size = 0;
+
+  private int added = 0;
+  private int removed = 0;
+
+  @Override
+  public AbstractEntity get(final int index) {
+    if (index >= size) {
+      throw new IndexOutOfBoundsException(index);
+    }
+    return elements[index];
+  }
+
+  @Override
+  public AbstractEntity set(final int index, final AbstractEntity entity) {
+    final AbstractEntity previous = get(index);
+    elements[index] = entity;
+    return previous;
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean add(final AbstractEntity entity) {
+    if (size == elements.length) {
+      elements = Arrays.copyOf(elements, size * 2);
+    }
+    elements[size++] = entity;
+    added++;
+    modCount++;
+    return true;
+  }
+
+  /**
+   * Remove one entity, shifting the following ones down.
+   *
+   * <p>Prefer {@link #compact(Consumer)} to remove dead entities.
+   */
+  @Override
+  public AbstractEntity remove(final int index) {
+    final AbstractEntity entity = get(index);
+    System.arraycopy(elements, index + 1, elements, index, size - index - 1);
+    elements[--size] = null;
+    removed++;
+    modCount++;
+    return entity;
+  }
+
+  @Override
+  public void clear() {
+    Arrays.fill(elements, 0, size, null);
+    size = 0;
+    modCount++;
+  }
+
+  /**
+   * Remove every dead entity in one pass, keeping the order of the others.
+   *
+   * @param onRemoved Called with each removed entity, in order.
+   * @return Number of entities removed.
+   */
+  public int compact(final Consumer<AbstractEntity> onRemoved) {
+    int kept = 0;
+    for (int i = 0; i < size; i++) {
+      final AbstractEntity entity = elements[i];
+      if (entity.isAlive()) {
+        elements[kept++] = entity;
+      } else {
+        onRemoved.accept(entity);
+      }
+    }
+    final int count = size - kept;
+    if (count > 0) {
+      Arrays.fill(elements, kept, size, null);
+      size = kept;
+      removed += count;
+      modCount++;
+    }
+    return count;
+  }
+
+  /**
+   * Get the number of entities added since the last {@link #resetCounts()}.
+   *
+   * @return Number of entities.
+   */
+  public int getAdded() {
+    return added;
+  }
+
+  /**
+   * Get the number of entities removed since the last {@link #resetCounts()}.
+   *
+   * @return Number of entities.
+   */
+  public int getRemoved() {
+    return removed;
+  }
+
+  /** Reset the added and removed counts, e.g. at the start of a tick. */
+  public void resetCounts() {
+    added = 0;
+    removed = 0;
+  }
+}
@@ -0,0 +1,91 @@
+// src/main/java/org/thunderfighter/core/world/FixedStepClock.java
+
+package org.thunderfighter.core.world;
+
+/**
+ * Fixed-timestep scheduler.
+ *
+ * <p>The frame time is added to an accumulator and {@link #advance(long)} returns how many whole
+ * ticks are owed, so the simulation runs at the same speed whatever the refresh rate of the
+ * monitor. What is left in the accumulator, as a fraction of a tick, is the interpolation {@link
+ * #getAlpha() alpha} used to draw between the last two ticks.
+ *
+ * <p>The ticks per frame are capped. If a frame took so long that more ticks are owed, the excess is
+ * dropped instead of carried over, otherwise slow ticks would make the next frame owe even more
+ * (the spiral of death).
+ */
+public final class FixedStepClock {
+
+  private final long stepNanos;
+  private final int maxStepsPerFrame;
+
+  /** Timestamp of the previous frame, negative before the first one. */
+  private long lastTime = -1;
+
+  private long accumulator = 0;
+
+  private long droppedTicks = 0;
+
+  /**
+   * Constructor of {@code FixedStepClock}.
+   *
+   * @param ticksPerSecond Simulation rate.
+   * @param maxStepsPerFrame Maximum number of ticks run for one frame.
+   */
+  public FixedStepClock(final int ticksPerSecond, final int maxStepsPerFrame) {
+    this.stepNanos = 1_000_000_000L / ticksPerSecond;
+    this.maxStepsPerFrame = maxStepsPerFrame;
+  }
+
+  /**
+   * Account the time elapsed since the previous frame.
+   *
+   * @param now Current timestamp in nanoseconds.
+   * @return Number of ticks to run for this frame, {@code 0} on the first frame.
+   */
+  public int advance(final long now) {
+    if (lastTime < 0) {
+      lastTime = now;
+      return 0;
+    }
+
+    accumulator += Math.max(0, now - lastTime);
+    lastTime = now;
+
+    final int steps = (int) Math.min(accumulator / stepNanos, maxStepsPerFrame);
+    accumulator -= steps * stepNanos;
+
+    // Drop what cannot be caught up, keep only the fraction of a tick.
+    if (accumulator >= stepNanos) {
+      droppedTicks += accumulator / stepNanos;
+      accumulator %= stepNanos;
+    }
+    return steps;
+  }
+
+  /**
+   * Get the interpolation factor between the previous and the current tick.
+   *
+   * @return Fraction of a tick elapsed since the last tick, in {@code [0, 1)}.
+   */
+  public double getAlpha() {
+    return accumulator / (double) stepNanos;
+  }
+
+  /**
+   * Forget the previous frame, e.g. when resuming from pause, so the paused time is not caught up.
+   */
+  public void reset() {
+    lastTime = -1;
+    accumulator = 0;
+  }
+
+  /**
+   * Get the number of ticks dropped because the catch-up cap was reached.
+   *
+   * @return Total dropped ticks.
+   */
+  public long getDroppedTicks() {
+    return droppedTicks;
+  }
+}
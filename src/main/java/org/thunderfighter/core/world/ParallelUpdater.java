@@ -0,0 +1,118 @@
+// src/main/java/org/thunderfighter/core/world/ParallelUpdater.java
+
+package org.thunderfighter.core.world;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+import org.thunderfighter.core.abstractor.AbstractEntity;
+import org.thunderfighter.core.entity.SpawnSink;
+
+/**
+ * Updates a range of entities in chunks on a {@link ForkJoinPool}.
+ *
+ * <p>Updating an entity only moves the entity itself and hands spawns and despawns to its {@link
+ * SpawnSink}, so entities of a range can be updated in any order, as long as they do not read the
+ * state of another entity of the range. Each chunk collects its requests in its own {@link
+ * SpawnBuffer}; once every chunk is done they are handed on in chunk order, which is the order a
+ * sequential loop would have requested them in. The result is therefore identical to updating the
+ * range sequentially.
+ *
+ * <p>Chunks and their buffers are kept between calls, so updating does not allocate once the
+ * largest range was seen. Must always be called from the same thread.
+ */
+public final class ParallelUpdater {
+
+  private final ForkJoinPool pool;
+  private final int chunkSize;
+
+  private final Root root = new Root();
+  private Chunk[] chunks = new Chunk[0];
+  private int chunkCount;
+
+  private List<AbstractEntity> entities;
+
+  /**
+   * Constructor of {@code ParallelUpdater}.
+   *
+   * @param pool Pool running the chunks.
+   * @param chunkSize Number of entities updated by one task.
+   */
+  public ParallelUpdater(final ForkJoinPool pool, final int chunkSize) {
+    this.pool = pool;
+    this.chunkSize = chunkSize;
+  }
+
+  /**
+   * Update the entities from {@code from} to the end of the list.
+   *
+   * @param entities Entities, not modified during the call.
+   * @param from Index of the first entity to update.
+   * @param sink Receives the spawns and despawns of the range, in entity order.
+   */
+  public void update(final List<AbstractEntity> entities, final int from, final SpawnSink sink) {
+    final int size = entities.size();
+    chunkCount = (size - from + chunkSize - 1) / chunkSize;
+    if (chunkCount <= 0) {
+      return;
+    }
+    if (chunks.length < chunkCount) {
+      final int old = chunks.length;
+      chunks = Arrays.copyOf(chunks, chunkCount);
+      for (int i = old; i < chunkCount; i++) {
+        chunks[i] = new Chunk();
+      }
+    }
+    for (int i = 0; i < chunkCount; i++) {
+      final int start = from + i * chunkSize;
+      chunks[i].reinitialize();
+      chunks[i].spawns.clear();
+      chunks[i].start = start;
+      chunks[i].end = Math.min(size, start + chunkSize);
+    }
+
+    this.entities = entities;
+    try {
+      root.reinitialize();
+      pool.invoke(root);
+    } finally {
+      this.entities = null;
+    }
+
+    for (int i = 0; i < chunkCount; i++) {
+      chunks[i].spawns.transferTo(sink);
+    }
+  }
+
+  /** Fork every chunk but the first, run the first one here and wait for the others. */
+  @SuppressWarnings("serial") // Never serialized.
+  private final class Root extends RecursiveAction {
+    @Override
+    protected void compute() {
+      for (int i = chunkCount - 1; i > 0; i--) {
+        chunks[i].fork();
+      }
+      chunks[0].invoke();
+      for (int i = 1; i < chunkCount; i++) {
+        chunks[i].join();
+      }
+    }
+  }
+
+  /** Entities {@code [start, end)}, updated on one worker. */
+  @SuppressWarnings("serial") // Never serialized.
+  private final class Chunk extends RecursiveAction {
+
+    private final SpawnBuffer spawns = new SpawnBuffer();
+    private int start;
+    private int end;
+
+    @Override
+    protected void compute() {
+      for (int i = start; i < end; i++) {
+        entities.get(i).update(spawns);
+      }
+    }
+  }
+}
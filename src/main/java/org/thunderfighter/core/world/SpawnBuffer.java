@@ -0,0 +1,74 @@
+// src/main/java/org/thunderfighter/core/world/SpawnBuffer.java
+
+package org.thunderfighter.core.world;
+
+import java.util.ArrayList;
+import java.util.List;
+import org.thunderfighter.core.abstractor.AbstractEntity;
+import org.thunderfighter.core.entity.SpawnSink;
+
+/**
+ * {@link SpawnSink} collecting requests until the world applies them.
+ *
+ * <p>The lists are cleared, not reallocated, after each batch.
+ */
+public final class SpawnBuffer implements SpawnSink {
+
+  private final List<AbstractEntity> spawns = new ArrayList<>();
+  private final List<AbstractEntity> despawns = new ArrayList<>();
+
+  @Override
+  public void spawn(final AbstractEntity entity) {
+    spawns.add(entity);
+  }
+
+  @Override
+  public void despawn(final AbstractEntity entity) {
+    despawns.add(entity);
+  }
+
+  /**
+   * Kill every entity whose removal was requested, so that the next compaction removes it.
+   *
+   * <p>Call before the entities are compacted.
+   */
+  public void applyDespawns() {
+    for (int i = 0; i < despawns.size(); i++) {
+      despawns.get(i).kill();
+    }
+    despawns.clear();
+  }
+
+  /**
+   * Add every requested entity, in request order.
+   *
+   * @param entities Entities of the world.
+   */
+  public void applySpawns(final List<AbstractEntity> entities) {
+    for (int i = 0; i < spawns.size(); i++) {
+      entities.add(spawns.get(i));
+    }
+    spawns.clear();
+  }
+
+  /**
+   * Hand every pending request to another sink, in request order, and drop them here.
+   *
+   * @param sink Sink receiving the requests.
+   */
+  public void transferTo(final SpawnSink sink) {
+    for (int i = 0; i < spawns.size(); i++) {
+      sink.spawn(spawns.get(i));
+    }
+    for (int i = 0; i < despawns.size(); i++) {
+      sink.despawn(despawns.get(i));
+    }
+    clear();
+  }
+
+  /** Drop every pending request, e.g. when the world is reset. */
+  public void clear() {
+    spawns.clear();
+    despawns.clear();
+  }
+}
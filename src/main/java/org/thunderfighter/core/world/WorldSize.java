@@ -0,0 +1,28 @@
+// src/main/java/org/thunderfighter/core/world/WorldSize.java
+
+package org.thunderfighter.core.world;
+
+/**
+ * Size of the game world.
+ *
+ * <p>Entities read the world boundaries from here instead of from a JavaFX {@code Canvas}, so the
+ * simulation can run without the JavaFX toolkit.
+ *
+ * @param width World width.
+ * @param height World height.
+ */
+public record WorldSize(double width, double height) {
+
+  /**
+   * Determine whether a box lies completely outside the world.
+   *
+   * @param x Minimum x of the box.
+   * @param y Minimum y of the box.
+   * @param w Width of the box.
+   * @param h Height of the box.
+   * @return Return {@code true} if no part of the box is inside the world.
+   */
+  public boolean isOutside(final double x, final double y, final double w, final double h) {
+    return x + w < 0 || x > width || y + h < 0 || y > height;
+  }
+}
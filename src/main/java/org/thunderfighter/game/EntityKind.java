@@ -0,0 +1,88 @@
+// src/main/java/org/thunderfighter/game/EntityKind.java
+
+package org.thunderfighter.game;
+
+import org.thunderfighter.core.abstractor.AbstractEnemyAircraft;
+import org.thunderfighter.core.abstractor.AbstractEntity;
+import org.thunderfighter.core.world.WorldSize;
+import org.thunderfighter.game.aircraft.enemy.BossEnemy;
+import org.thunderfighter.game.aircraft.enemy.EliteEnemy;
+import org.thunderfighter.game.aircraft.enemy.NormalEnemy;
+import org.thunderfighter.game.aircraft.player.PlayerAircraft;
+import org.thunderfighter.game.bullet.CurveEnemyBullet;
+import org.thunderfighter.game.bullet.HomingEnemyBullet;
+import org.thunderfighter.game.bullet.LaserBullet;
+import org.thunderfighter.game.bullet.NormalEnemyBullet;
+import org.thunderfighter.game.bullet.PlayerBullet;
+import org.thunderfighter.game.bulletfactory.BulletFactory;
+
+/**
+ * Concrete entity classes, written as a tag in a world state.
+ *
+ * <p>See {@link World#writeState(java.nio.ByteBuffer)}. The ordinal is written, so constants may
+ * only be appended.
+ */
+enum EntityKind {
+  PLAYER,
+  NORMAL_ENEMY,
+  ELITE_ENEMY,
+  BOSS,
+  PLAYER_BULLET,
+  ENEMY_BULLET,
+  CURVE_BULLET,
+  HOMING_BULLET,
+  LASER;
+
+  /**
+   * Get the kind of an entity.
+   *
+   * @param entity Entity of the world.
+   * @return Kind.
+   * @throws IllegalArgumentException If the class of the entity has no kind.
+   */
+  static EntityKind of(final AbstractEntity entity) {
+    return switch (entity) {
+      case PlayerAircraft e -> PLAYER;
+      case NormalEnemy e -> NORMAL_ENEMY;
+      case EliteEnemy e -> ELITE_ENEMY;
+      case BossEnemy e -> BOSS;
+      case PlayerBullet e -> PLAYER_BULLET;
+      case NormalEnemyBullet e -> ENEMY_BULLET;
+      case CurveEnemyBullet e -> CURVE_BULLET;
+      case HomingEnemyBullet e -> HOMING_BULLET;
+      case LaserBullet e -> LASER;
+      default -> throw new IllegalArgumentException("No kind for " + entity.getClass().getName());
+    };
+  }
+
+  /**
+   * Create an entity of this kind, to read its state into.
+   *
+   * <p>Bullets come from their pool. The player is not created, the one of the world is returned.
+   * Enemies credit the score of the world.
+   *
+   * @param world World the entity is created for.
+   * @return Entity in an unspecified state.
+   */
+  AbstractEntity create(final World world) {
+    final WorldSize size = world.getWorldSize();
+    final AbstractEntity entity =
+        switch (this) {
+          case PLAYER -> world.getPlayerAircraft();
+          case NORMAL_ENEMY -> new NormalEnemy(0);
+          case ELITE_ENEMY -> new EliteEnemy(0);
+          case BOSS -> new BossEnemy(0, 0, world);
+          case PLAYER_BULLET -> BulletFactory.createPlayerBullet(size, 0, 0);
+          case ENEMY_BULLET -> BulletFactory.createEnemyBullet(size, 0, 0, 0, 0, false);
+          case CURVE_BULLET -> BulletFactory.createCurvedEnemyBullet(size, 0, 0, 0, 0, 0);
+          case HOMING_BULLET ->
+              BulletFactory.createHomingBullet(size, 0, 0, 0, 0, 1, world.getPlayerTarget());
+          case LASER -> BulletFactory.createLaserBullet(size, 0, 0, 0, 0, 1, 1);
+        };
+    entity.setWorldSize(size);
+    if (entity instanceof AbstractEnemyAircraft enemy) {
+      enemy.setScoreManager(world.getScoreManager());
+    }
+    return entity;
+  }
+}
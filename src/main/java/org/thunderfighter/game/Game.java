@@ -2,34 +2,55 @@
 
 package org.thunderfighter.game;
 
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
 import java.util.ArrayList;
-import java.util.Iterator;
 import java.util.List;
 import javafx.animation.AnimationTimer;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import javafx.scene.layout.StackPane;
 import javafx.stage.Stage;
-import org.thunderfighter.core.abstractor.AbstractEnemyAircraft;
-import org.thunderfighter.core.abstractor.AbstractEntity;
-import org.thunderfighter.core.collision.CollisionDetector;
-import org.thunderfighter.core.manager.ScoreManager;
+import org.thunderfighter.core.manager.AssetManager;
+import org.thunderfighter.core.manager.AssetPreloader;
+import org.thunderfighter.core.metrics.Phase;
+import org.thunderfighter.core.metrics.StartupMetrics;
+import org.thunderfighter.core.metrics.TickMetrics;
+import org.thunderfighter.core.render.RenderSnapshot;
+import org.thunderfighter.core.render.SnapshotRenderer;
+import org.thunderfighter.core.world.FixedStepClock;
+import org.thunderfighter.core.world.WorldSize;
 import org.thunderfighter.game.aircraft.player.PlayerAircraft;
-import org.thunderfighter.game.spawn.EnemySpawner;
+import org.thunderfighter.game.bulletfactory.BulletFactory;
+import org.thunderfighter.game.replay.Replay;
+import org.thunderfighter.game.replay.RewindBuffer;
+import org.thunderfighter.game.save.SaveState;
+import org.thunderfighter.ui.BackgroundLayer;
 import org.thunderfighter.ui.KeyboardController;
+import org.thunderfighter.ui.MetricsOverlay;
 import org.thunderfighter.ui.ScoreBoard;
 import org.thunderfighter.ui.UiMenu;
 import org.thunderfighter.ui.UiOverlay;
 import org.thunderfighter.ui.UiScoreStorage;
+import org.thunderfighter.utils.AppDataDirectory;
 import org.thunderfighter.utils.Constant;
 import org.thunderfighter.utils.Constant.GAME_STATE;
-import org.thunderfighter.utils.Constant.PHASE;
 
 /** Control and manage the game. */
 public class Game {
 
+  /** Size of the world and of the canvas. */
+  public static final WorldSize WORLD_SIZE = new WorldSize(800, 900);
+
+  /** Background drawn behind the world, scaled to the canvas. */
+  public static final String BACKGROUND_IMAGE = "/images/Background/bg.png";
+
   // GUI related.
   private AnimationTimer animationTimer;
   private final Canvas canvas;
@@ -40,21 +61,32 @@ public class Game {
   private final UiOverlay overlay;
   private final UiMenu menu;
   private ScoreBoard scoreBoard;
-  private final Image backgroundImage =
-      new Image(getClass().getResourceAsStream("/images/Background/bg.png"));
+  private MetricsOverlay metricsOverlay;
+  private final BackgroundLayer background;
+
+  // Fixed-step scheduler of the simulation.
+  private final FixedStepClock clock =
+      new FixedStepClock(Constant.TPS, Constant.MAX_TICKS_PER_FRAME);
+
+  // Simulation, it owns the player and all entities.
+  private final World world = new World(WORLD_SIZE);
 
-  private long lastTime = 0;
+  // Last quicksave, only used by commands, see `submit()`.
+  private final SaveState quickSave = new SaveState();
 
-  // Player.
-  private PlayerAircraft playerAircraft;
+  // Draws snapshots, and the snapshot of the current frame without the simulation thread.
+  private final SnapshotRenderer renderer =
+      new SnapshotRenderer(WORLD_SIZE.width(), WORLD_SIZE.height());
+  private final RenderSnapshot frame = new RenderSnapshot();
 
-  // Manage all enetities.
-  private final List<AbstractEntity> entities = new ArrayList<>();
+  // Runs `world` on its own thread, `null` unless `Constant.SIMULATION_THREAD` is set.
+  private final SimulationThread simulation;
 
-  // Enemy related.
-  private EnemySpawner enemySpawner;
-  private int numberOfEnemy = 0;
-  private Constant.PHASE enemyStage = Constant.PHASE.NORMAL;
+  // Timestamp of the previous frame, `-1` before the first one.
+  private long lastFrame = -1;
+
+  // Round expected in the snapshots, counted like `World.getRound()`.
+  private int round = 1;
 
   // Game related.
   GAME_STATE gameState;
@@ -65,9 +97,19 @@ public class Game {
   public Game(final Stage stage) {
     overlay = new UiOverlay(this);
     menu = new UiMenu(this, overlay);
-    canvas = new Canvas(800, 900);
+    canvas = new Canvas(world.getWorldSize().width(), world.getWorldSize().height());
+    background =
+        new BackgroundLayer(
+            AssetManager.getInstance()
+                .getImage(BACKGROUND_IMAGE, canvas.getWidth(), canvas.getHeight()),
+            Constant.BACKGROUND_SCROLL_SPEED);
     graphicsContext = canvas.getGraphicsContext2D();
-    root = new StackPane(canvas, overlay, menu);
+    root = new StackPane(background, canvas, overlay, menu);
+    if (Constant.REWIND) {
+      world.setRewindBuffer(
+          new RewindBuffer(Constant.REWIND_WINDOW_TICKS, Constant.REWIND_SNAPSHOT_TICKS));
+    }
+    simulation = Constant.SIMULATION_THREAD ? new SimulationThread(world) : null;
     gameState = GAME_STATE.MENU;
     this.scene = new Scene(root);
 
@@ -81,6 +123,20 @@ public class Game {
     initGame();
   }
 
+  /**
+   * Get every image the game draws, to be preloaded before it is created.
+   *
+   * @return Sprites, the background and the menu background.
+   */
+  public static List<AssetPreloader.AssetRequest> getAssets() {
+    final List<AssetPreloader.AssetRequest> assets = new ArrayList<>(AssetPreloader.sprites());
+    assets.add(
+        new AssetPreloader.AssetRequest(
+            BACKGROUND_IMAGE, WORLD_SIZE.width(), WORLD_SIZE.height()));
+    assets.add(new AssetPreloader.AssetRequest(UiMenu.BACKGROUND_IMAGE, 0, 0));
+    return assets;
+  }
+
   public void setGameState(final GAME_STATE gameState) {
     this.gameState = gameState;
   }
@@ -113,66 +169,196 @@ public class Game {
 
   public void stop() {
     animationTimer.stop();
+    if (simulation != null) {
+      simulation.stop();
+    }
+  }
+
+  /** Show or hide the metrics overlay. */
+  public void toggleMetricsOverlay() {
+    metricsOverlay.toggle();
   }
 
   /**
-   * Update frames of the game.
+   * Write the metrics of the world, the asset statistics, the bullet pool counters and the startup
+   * milestones to {@code metrics-<timestamp>.csv} in the app data directory.
+   *
+   * <p>With the simulation thread, the values are read while being written and may be slightly
+   * inconsistent.
+   */
+  public void dumpMetrics() {
+    final String timestamp =
+        LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+    final Path file =
+        AppDataDirectory.getAppDataDirectory().resolve("metrics-" + timestamp + ".csv");
+    try {
+      Files.createDirectories(file.getParent());
+      try (Writer out = Files.newBufferedWriter(file)) {
+        world.getMetrics().writeCsv(out);
+        out.write("\n");
+        AssetManager.getInstance().writeCsv(out);
+        out.write("\n");
+        BulletFactory.writeCsv(out);
+        out.write("\n");
+        StartupMetrics.writeCsv(out);
+      }
+    } catch (final IOException e) {
+      e.printStackTrace();
+    }
+  }
+
+  /**
+   * Write a replay of the current round to {@code replay-<timestamp>.tfr} in the app data
+   * directory.
    *
-   * <p>The order of updating is:
+   * <p>With the simulation thread, the replay is taken and written on it, after the last tick.
+   */
+  public void saveReplay() {
+    submit(
+        world -> {
+          final String timestamp =
+              LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss"));
+          final Path file =
+              AppDataDirectory.getAppDataDirectory()
+                  .resolve("replay-" + timestamp + Replay.EXTENSION);
+          try {
+            Files.createDirectories(file.getParent());
+            world.getReplay().write(file);
+          } catch (final IOException e) {
+            e.printStackTrace();
+          }
+        });
+  }
+
+  /**
+   * Save the current round to memory and to {@code quicksave.tfs} in the app data directory.
    *
-   * <ol>
-   *   <li>Generate enemy.
-   *   <li>Determine whether the player want to shoot.
-   *   <li>Detect collisions.
-   *   <li>Update position and state of each {@link Entity}.
-   *   <li>Remove dead objects and update {@code numberOfEnemy}.
-   *   <li>Update the score board.
-   * </ol>
+   * <p>Only a running or paused round is saved. With the simulation thread, the world is saved on
+   * it, between two ticks.
    */
-  public void update() {
-    generateEnemy();
-    if (playerAircraft.wantToShoot()) {
-      playerAircraft.shoot(entities);
+  public void quickSave() {
+    if (gameState != GAME_STATE.RUNNING && gameState != GAME_STATE.PAUSE) {
+      return;
     }
+    submit(
+        world -> {
+          quickSave.capture(world);
+          final Path file = getQuickSaveFile();
+          try {
+            Files.createDirectories(file.getParent());
+            quickSave.write(file);
+          } catch (final IOException e) {
+            e.printStackTrace();
+          }
+        });
+  }
 
-    CollisionDetector.detectCollision(entities);
+  /**
+   * Continue the current round from the last quicksave.
+   *
+   * <p>Without a quicksave since the game started, the one of {@code quicksave.tfs} is loaded, so a
+   * round saved before quitting can be continued from a new round. The keys held are kept.
+   */
+  public void quickLoad() {
+    if (gameState != GAME_STATE.RUNNING && gameState != GAME_STATE.PAUSE) {
+      return;
+    }
+    submit(
+        world -> {
+          try {
+            if (quickSave.isEmpty()) {
+              quickSave.read(getQuickSaveFile());
+            }
+            quickSave.restore(world);
+          } catch (final NoSuchFileException e) {
+            // Nothing was saved yet, keep playing.
+          } catch (final IOException | IllegalArgumentException e) {
+            e.printStackTrace();
+          }
+        });
+  }
 
-    final Iterator<AbstractEntity> it = entities.iterator();
-    final List<AbstractEntity> tempList = new ArrayList<>();
-    while (it.hasNext()) {
-      final AbstractEntity entity = it.next();
-      if (entity instanceof AbstractEnemyAircraft) {
-        entity.update(tempList);
-      } else {
-        entity.update(entities);
-      }
-      if (!entity.isAlive()) {
-        it.remove();
-        if (entity instanceof AbstractEnemyAircraft) {
-          numberOfEnemy--;
-        }
-      }
+  /**
+   * Go back {@code Constant.REWIND_STEP_TICKS} in the current round, at most to the start of the
+   * rewind window, and continue from there. Does nothing unless {@code Constant.REWIND} is set.
+   */
+  public void rewind() {
+    if (gameState != GAME_STATE.RUNNING && gameState != GAME_STATE.PAUSE) {
+      return;
     }
-    entities.addAll(tempList);
-    scoreBoard.update();
+    submit(world -> world.rewind(Constant.REWIND_STEP_TICKS));
+  }
+
+  private static Path getQuickSaveFile() {
+    return AppDataDirectory.getAppDataDirectory().resolve("quicksave" + SaveState.EXTENSION);
   }
 
   /**
-   * Draw each frame.
+   * Run a command against the world.
+   *
+   * <p>With the simulation thread, the command is queued and applied before its next tick.
+   * Otherwise it is applied at once.
    *
-   * <p>This method will draw the background at first, then it will draw each entity stored in
-   * {@code entites}.
+   * @param command Command, e.g. an input change.
    */
-  public void draw() {
-    graphicsContext.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
-    graphicsContext.drawImage(backgroundImage, 0, 0, canvas.getWidth(), canvas.getHeight());
-    for (final AbstractEntity entity : entities) {
-      entity.draw(graphicsContext);
+  public void submit(final SimulationThread.Command command) {
+    if (simulation != null) {
+      simulation.submit(command);
+    } else {
+      command.apply(world);
+    }
+  }
+
+  /**
+   * Update frames of the game.
+   *
+   * <p>The simulation is advanced by one tick with {@link World#tick()}. Once the boss or the
+   * player died, its outcome becomes the game state.
+   */
+  public void update() {
+    world.tick();
+    if (world.getOutcome() != GAME_STATE.RUNNING) {
+      gameState = world.getOutcome();
     }
   }
 
+  /**
+   * Draw a snapshot.
+   *
+   * <p>The canvas only holds the sprites, drawn layer by layer, see {@link SnapshotRenderer}. The
+   * background is a {@link BackgroundLayer} behind it.
+   *
+   * @param snapshot Snapshot to draw.
+   * @param alpha Fraction of a tick elapsed since the snapshot was taken.
+   */
+  private void draw(final RenderSnapshot snapshot, final double alpha) {
+    final TickMetrics metrics = world.getMetrics();
+    final long start = metrics.now();
+    graphicsContext.clearRect(0, 0, canvas.getWidth(), canvas.getHeight());
+    renderer.draw(graphicsContext, snapshot, alpha);
+    metrics.lap(Phase.DRAW, start);
+    metricsOverlay.update(metrics, renderer);
+  }
+
+  /**
+   * Draw each frame.
+   *
+   * <p>The world is captured into a snapshot owned by the game, which is drawn like the snapshots
+   * of the simulation thread, each entity blended between its previous and current position.
+   *
+   * @param alpha Fraction of a tick elapsed since the last tick, see {@link FixedStepClock}.
+   */
+  public void draw(final double alpha) {
+    world.capture(frame);
+    draw(frame, alpha);
+  }
+
   public PlayerAircraft getPlayerAircraft() {
-    return playerAircraft;
+    return world.getPlayerAircraft();
+  }
+
+  public World getWorld() {
+    return world;
   }
 
   /**
@@ -185,29 +371,27 @@ public class Game {
         new AnimationTimer() {
           @Override
           public void handle(final long now) {
-            // If this is the first run, initialize the timestamp.
-            if (lastTime == 0) {
-              lastTime = now;
-              return;
+            StartupMetrics.markFirstFrame();
+            if (lastFrame >= 0) {
+              world.getMetrics().record(Phase.FRAME, now - lastFrame);
+            }
+            lastFrame = now;
+
+            // Time spent outside of a running game is not caught up.
+            if (gameState != GAME_STATE.RUNNING) {
+              clock.reset();
+              background.pause();
+            }
+            if (simulation != null) {
+              simulation.setRunning(gameState == GAME_STATE.RUNNING);
             }
 
-            // Calculate the time interval (nanoseconds) required for each frame.
-            // 1seconds = 1,000,000,000 ns
-            final long interval = 1_000_000_000 / Constant.TPS;
-
-            // The logic is executed only when the difference
-            // between the current time and the previous time is greater than or equal to the
-            // interval.
-            if (now - lastTime >= interval) {
-              switch (gameState) {
-                case MENU -> handleMenuState();
-                case RUNNING -> handleRunningState();
-                case PAUSE -> handlePauseState();
-                case SUCCESS -> handleSuccessState();
-                case FAIL -> handleFailState();
-              }
-              // Update last execution time
-              lastTime = now;
+            switch (gameState) {
+              case MENU -> handleMenuState();
+              case RUNNING -> handleRunningState(now);
+              case PAUSE -> handlePauseState();
+              case SUCCESS -> handleSuccessState();
+              case FAIL -> handleFailState();
             }
           }
         };
@@ -215,39 +399,25 @@ public class Game {
 
   /** Initialize the game at first launch. */
   private void initGame() {
-    initEntities();
-    enemySpawner = new EnemySpawner(canvas, entities, this);
-    scoreBoard = new ScoreBoard(root, playerAircraft);
-    this.keyboardController = new KeyboardController(playerAircraft, this);
+    scoreBoard = new ScoreBoard(root, world.getPlayerAircraft(), world.getScoreManager());
+    metricsOverlay = new MetricsOverlay(root);
+    this.keyboardController = new KeyboardController(this);
     keyboardController.operation(this.scene);
-    ScoreManager.getInstance().reset();
     initAnimationTimer();
-  }
-
-  /** Initialize entities and register them into the {@code entites} list. */
-  private void initEntities() {
-    entities.clear();
-    numberOfEnemy = 0;
-    playerAircraft =
-        new PlayerAircraft(
-            canvas.getWidth() / 2,
-            canvas.getHeight() - PlayerAircraft.SIZE.getHeight() - 10,
-            3,
-            10,
-            20,
-            canvas,
-            this);
-    entities.add(playerAircraft);
+    if (simulation != null) {
+      simulation.start();
+    }
   }
 
   /** Restart the game when clicking the start button in the main menu. */
   private void restartGame() {
-    ScoreManager.getInstance().reset();
-    enemyStage = PHASE.NORMAL;
-    initEntities();
-    keyboardController.setPlayer(this.playerAircraft);
-    scoreBoard.setPlayerAircraft(this.playerAircraft);
-    enemySpawner.reset();
+    round++;
+    if (simulation != null) {
+      simulation.submit(World::reset);
+      return;
+    }
+    world.reset();
+    scoreBoard.setPlayerAircraft(world.getPlayerAircraft());
   }
 
   /** Actions to be taken when the user is in menu. */
@@ -264,8 +434,15 @@ public class Game {
     }
   }
 
-  /** Actions to be taken during running the game. */
-  private void handleRunningState() {
+  /**
+   * Actions to be taken during running the game.
+   *
+   * <p>Run every tick owed since the previous frame, at most {@code Constant.MAX_TICKS_PER_FRAME},
+   * then draw once.
+   *
+   * @param now Timestamp of the current frame in nanoseconds.
+   */
+  private void handleRunningState(final long now) {
     // A new round of game.
     if (fromMenuStart) {
       restartGame();
@@ -275,8 +452,37 @@ public class Game {
     overlay.setVisible(false);
     scoreBoard.setVisible(true);
     scoreRead = false;
-    update();
-    draw();
+    background.scroll(now);
+    if (simulation != null) {
+      drawLatestSnapshot();
+      return;
+    }
+    final int ticks = clock.advance(now);
+    for (int i = 0; i < ticks && gameState == GAME_STATE.RUNNING; i++) {
+      update();
+    }
+    scoreBoard.update();
+    draw(clock.getAlpha());
+  }
+
+  /**
+   * Draw the latest snapshot of the simulation thread and take over its outcome.
+   *
+   * <p>Snapshots of a previous round, published before the reset was applied, are skipped.
+   */
+  private void drawLatestSnapshot() {
+    final RenderSnapshot snapshot = simulation.getSnapshot();
+    if (snapshot.getRound() != round) {
+      return;
+    }
+    if (snapshot.getOutcome() != GAME_STATE.RUNNING) {
+      gameState = snapshot.getOutcome();
+    }
+    scoreBoard.update(snapshot.getScore(), snapshot.getPlayerHp());
+
+    final double step = 1_000_000_000.0 / Constant.TPS;
+    final double alpha = Math.min(1.0, (System.nanoTime() - snapshot.getTimeNanos()) / step);
+    draw(snapshot, alpha);
   }
 
   /** Actions to be done when the game is paused. */
@@ -289,13 +495,17 @@ public class Game {
    *
    * <p>It avoid adding scores repeatly by using a flag {@code scoreStored}.
    *
-   * <p>If the flag is {@code true}, it will skip writing into file. Otherwise, it will do so.
+   * <p>If the flag is {@code true}, it will skip writing into file. Otherwise, it will do so. The
+   * replay of the round is saved at the same time if {@code Constant.RECORD_REPLAYS} is set.
    */
   private void storeScore() {
     if (!scoreStored) {
-      UiScoreStorage.addScore(ScoreManager.getInstance().getScore());
+      UiScoreStorage.addScore(world.getScoreManager().getScore());
       scoreStored = true;
       UiScoreStorage.writeToFile();
+      if (Constant.RECORD_REPLAYS) {
+        saveReplay();
+      }
     }
   }
 
@@ -310,49 +520,4 @@ public class Game {
     overlay.showFail();
     storeScore();
   }
-
-  /**
-   * Generate enemies according to different phases and scores.
-   *
-   * <p>If the number of enemy reaches the limit, this method will do nothing.
-   */
-  private void generateEnemy() {
-    if (numberOfEnemy >= Constant.ENEMY_NUMBER_LIMIT) {
-      return;
-    }
-
-    // Update the phase before entering switch-case statements.
-    final int currentScore = ScoreManager.getInstance().getScore();
-    if (enemyStage == PHASE.NORMAL && currentScore >= Constant.GENERATE_ELITE_SCORE) {
-      enemyStage = PHASE.ELITE;
-    } else if (enemyStage == PHASE.ELITE && currentScore >= Constant.GENERATE_BOSS_SCORE) {
-      enemyStage = PHASE.BOSS;
-    }
-
-    // | Phase  |     Enemy       |
-    // | ------ | --------------- |
-    // | NORMAL | Normal          |
-    // | ELITE  | Elite + Normal  |
-    // | BOSS   | Boss            |
-    switch (enemyStage) {
-      case NORMAL:
-        if (enemySpawner.spawnNormal()) {
-          numberOfEnemy++;
-        }
-        break;
-      case ELITE:
-        if (enemySpawner.spawnElite()) {
-          numberOfEnemy++;
-        }
-        if (enemySpawner.spawnNormal()) {
-          numberOfEnemy++;
-        }
-        break;
-      case BOSS:
-        if (enemySpawner.spawnBoss(this)) {
-          numberOfEnemy++;
-        }
-        break;
-    }
-  }
 }
@@ -0,0 +1,135 @@
+// src/main/java/org/thunderfighter/game/SimulationThread.java
+
+package org.thunderfighter.game;
+
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.locks.LockSupport;
+import org.thunderfighter.core.render.RenderSnapshot;
+import org.thunderfighter.core.render.SnapshotBuffer;
+import org.thunderfighter.utils.Constant;
+import org.thunderfighter.utils.Constant.GAME_STATE;
+
+/**
+ * Runs a {@link World} on its own thread at {@code Constant.TPS}.
+ *
+ * <p>Once started, the world belongs to this thread. Other threads talk to it only through:
+ *
+ * <ul>
+ *   <li>{@link #submit(Command)}: commands such as input changes or a reset, queued lock-free and
+ *       applied at the start of the next tick.
+ *   <li>{@link #getSnapshot()}: the latest {@link RenderSnapshot}, published after every tick.
+ *   <li>{@link #setRunning(boolean)}: whether ticks are run, e.g. false while paused.
+ * </ul>
+ *
+ * <p>The world stops ticking by itself once the round has an outcome, until it is reset.
+ */
+public final class SimulationThread {
+
+  /** Action run on the simulation thread with exclusive access to the world. */
+  @FunctionalInterface
+  public interface Command {
+    void apply(World world);
+  }
+
+  private final World world;
+  private final SnapshotBuffer snapshots = new SnapshotBuffer();
+  private final ConcurrentLinkedQueue<Command> commands = new ConcurrentLinkedQueue<>();
+
+  private volatile boolean running = false;
+  private volatile boolean stopped = false;
+  private Thread thread;
+
+  /**
+   * Constructor of {@code SimulationThread}.
+   *
+   * @param world World to run, must not be touched by other threads once started.
+   */
+  public SimulationThread(final World world) {
+    this.world = world;
+  }
+
+  /** Start the thread. The world is not ticked until {@link #setRunning(boolean)} is called. */
+  public void start() {
+    publish();
+    thread = new Thread(this::run, "simulation");
+    thread.setDaemon(true);
+    thread.start();
+  }
+
+  /** Stop the thread and wait for it to exit. */
+  public void stop() {
+    stopped = true;
+    if (thread != null) {
+      LockSupport.unpark(thread);
+      try {
+        thread.join();
+      } catch (final InterruptedException e) {
+        Thread.currentThread().interrupt();
+      }
+    }
+  }
+
+  /**
+   * Enable or disable ticking. Commands are still applied while disabled.
+   *
+   * @param running Whether ticks are run.
+   */
+  public void setRunning(final boolean running) {
+    this.running = running;
+  }
+
+  /**
+   * Queue a command for the simulation thread.
+   *
+   * @param command Command to apply before the next tick.
+   */
+  public void submit(final Command command) {
+    commands.add(command);
+  }
+
+  /**
+   * Get the latest published snapshot. Must always be called from the same thread.
+   *
+   * @return Latest snapshot, untouched by the simulation until the next call.
+   */
+  public RenderSnapshot getSnapshot() {
+    return snapshots.acquire();
+  }
+
+  /**
+   * Tick loop.
+   *
+   * <p>Ticks are scheduled on a fixed grid. If the thread fell behind by more than {@code
+   * Constant.MAX_TICKS_PER_FRAME} ticks, the grid is moved to now instead of catching up.
+   */
+  private void run() {
+    final long step = 1_000_000_000L / Constant.TPS;
+    long next = System.nanoTime();
+    while (!stopped) {
+      Command command;
+      while ((command = commands.poll()) != null) {
+        command.apply(world);
+      }
+
+      if (running && world.getOutcome() == GAME_STATE.RUNNING) {
+        world.tick();
+      }
+      publish();
+
+      next += step;
+      final long wait = next - System.nanoTime();
+      if (wait > 0) {
+        LockSupport.parkNanos(this, wait);
+      } else if (-wait > step * Constant.MAX_TICKS_PER_FRAME) {
+        next = System.nanoTime();
+      }
+    }
+  }
+
+  private void publish() {
+    final RenderSnapshot snapshot = snapshots.getBack();
+    world.capture(snapshot);
+    snapshot.setTimeNanos(System.nanoTime());
+    snapshots.publish();
+  }
+}
@@ -0,0 +1,666 @@
+// src/main/java/org/thunderfighter/game/World.java
+
+package org.thunderfighter.game;
+
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+import org.thunderfighter.core.abstractor.AbstractBullet;
+import org.thunderfighter.core.abstractor.AbstractEnemyAircraft;
+import org.thunderfighter.core.abstractor.AbstractEntity;
+import org.thunderfighter.core.collision.CollisionDetector;
+import org.thunderfighter.core.collision.CollisionLayer;
+import org.thunderfighter.core.entity.SpawnSink;
+import org.thunderfighter.core.manager.ScoreManager;
+import org.thunderfighter.core.metrics.CollisionEvent;
+import org.thunderfighter.core.metrics.EntityWatchdog;
+import org.thunderfighter.core.metrics.Phase;
+import org.thunderfighter.core.metrics.TickEvent;
+import org.thunderfighter.core.metrics.TickMetrics;
+import org.thunderfighter.core.render.RenderSnapshot;
+import org.thunderfighter.core.world.EntityContainer;
+import org.thunderfighter.core.world.ParallelUpdater;
+import org.thunderfighter.core.world.RestorableRandom;
+import org.thunderfighter.core.world.SpawnBuffer;
+import org.thunderfighter.core.world.WorldSize;
+import org.thunderfighter.game.aircraft.enemy.BossEnemy;
+import org.thunderfighter.game.aircraft.player.PlayerAircraft;
+import org.thunderfighter.game.bullet.BulletSystem;
+import org.thunderfighter.game.bulletfactory.BulletFactory;
+import org.thunderfighter.game.replay.Replay;
+import org.thunderfighter.game.replay.ReplayRecorder;
+import org.thunderfighter.game.replay.RewindBuffer;
+import org.thunderfighter.game.spawn.EnemySpawner;
+import org.thunderfighter.game.trajectory.HomingTrajectory;
+import org.thunderfighter.utils.Constant;
+import org.thunderfighter.utils.Constant.GAME_STATE;
+import org.thunderfighter.utils.Constant.PHASE;
+
+/**
+ * Game simulation without any JavaFX node.
+ *
+ * <p>The world owns every entity and advances them one tick at a time with {@link #tick()}. It only
+ * needs a {@link WorldSize}, so it can run without the JavaFX toolkit, e.g. for soak tests,
+ * benchmarks or a server. {@link Game} drives it from its timer and draws {@link #getEntities()}.
+ */
+public final class World {
+
+  private final WorldSize worldSize;
+
+  // Player.
+  private PlayerAircraft playerAircraft;
+
+  // Manage all enetities.
+  private final EntityContainer entities = new EntityContainer();
+
+  // Called for each entity removed from `entities`, kept to not allocate it every tick.
+  private final Consumer<AbstractEntity> retire = this::retire;
+
+  // Entities spawned and despawned during the tick, applied at its end.
+  private final SpawnBuffer spawnBuffer = new SpawnBuffer();
+
+  // Updates the entities in chunks once there are at least `parallelThreshold`.
+  private final ParallelUpdater parallelUpdater =
+      new ParallelUpdater(ForkJoinPool.commonPool(), Constant.PARALLEL_UPDATE_CHUNK);
+  private int parallelThreshold =
+      Constant.PARALLEL_UPDATE ? Constant.PARALLEL_UPDATE_THRESHOLD : Integer.MAX_VALUE;
+
+  // Straight and curved bullets, moved in batches.
+  private final BulletSystem bulletSystem = new BulletSystem();
+
+  // Broadphase grid and counters of the collision pass.
+  private final CollisionDetector collisionDetector;
+
+  // Live entities grouped by collision layer, indexed by `CollisionLayer.indexOf()`.
+  private final List<List<AbstractEntity>> layerEntities = new ArrayList<>();
+
+  // Only source of randomness of the simulation, seeded for each round.
+  private final RestorableRandom random = new RestorableRandom();
+
+  // Seeds of the rounds started by `reset()`.
+  private final Random seeds = new Random();
+
+  // Player input of each tick of the round, and keyframes.
+  private final ReplayRecorder recorder = new ReplayRecorder();
+
+  // Recent states to go back to, `null` unless set with `setRewindBuffer()`.
+  private RewindBuffer rewindBuffer;
+
+  // Position of the player, homing bullets steer to it.
+  private final HomingTrajectory.TargetProvider playerTarget =
+      new HomingTrajectory.TargetProvider() {
+        @Override
+        public double getTargetX() {
+          return playerAircraft.getX();
+        }
+
+        @Override
+        public double getTargetY() {
+          return playerAircraft.getY();
+        }
+      };
+
+  // Score of the round, credited by the enemies it spawns.
+  private final ScoreManager scoreManager = new ScoreManager();
+
+  // Enemy related.
+  private final EnemySpawner enemySpawner;
+  private int numberOfEnemy = 0;
+  private PHASE enemyStage = PHASE.NORMAL;
+
+  // `RUNNING` until the boss or the player dies.
+  private GAME_STATE outcome = GAME_STATE.RUNNING;
+
+  // Timings and counts of each tick.
+  private final TickMetrics metrics = new TickMetrics();
+
+  // Reports entity counts which keep growing.
+  private final EntityWatchdog watchdog =
+      new EntityWatchdog(Constant.WATCHDOG_WINDOW_TICKS, Constant.WATCHDOG_WINDOWS);
+
+  // Ticks run in the current round, and number of rounds started.
+  private long tickCount = 0;
+  private int round = 0;
+
+  /**
+   * Constructor of {@code World}.
+   *
+   * @param worldSize Size of the world.
+   */
+  public World(final WorldSize worldSize) {
+    this.worldSize = worldSize;
+    bulletSystem.setWorldSize(worldSize.width(), worldSize.height());
+    collisionDetector = new CollisionDetector(worldSize.width(), worldSize.height());
+    for (int i = 0; i < CollisionLayer.COUNT; i++) {
+      layerEntities.add(new ArrayList<>());
+    }
+    enemySpawner = new EnemySpawner(worldSize, entities, random, scoreManager);
+    reset();
+  }
+
+  /** Start a new round with a random seed, see {@link #reset(long)}. */
+  public void reset() {
+    reset(seeds.nextLong());
+  }
+
+  /**
+   * Start a new round.
+   *
+   * <p>The score, the enemy phase and the spawner are reset and a new player aircraft is created.
+   * The round only depends on the seed and on the player input of each tick, which is recorded,
+   * see {@link #getReplay()}.
+   *
+   * @param seed Seed of the random number generator of the round.
+   */
+  public void reset(final long seed) {
+    random.setSeed(seed);
+    recorder.start(seed);
+    if (rewindBuffer != null) {
+      rewindBuffer.clear();
+    }
+    scoreManager.reset();
+    enemyStage = PHASE.NORMAL;
+    outcome = GAME_STATE.RUNNING;
+    tickCount = 0;
+    round++;
+    enemySpawner.reset();
+    watchdog.reset();
+
+    bulletSystem.clear();
+    spawnBuffer.clear();
+    entities.clear();
+    numberOfEnemy = 0;
+    playerAircraft =
+        new PlayerAircraft(
+            worldSize.width() / 2,
+            worldSize.height() - PlayerAircraft.SIZE.getHeight() - 10,
+            3,
+            10,
+            20,
+            this);
+    entities.add(playerAircraft);
+  }
+
+  /**
+   * Advance the world by one tick.
+   *
+   * <p>The order of updating is:
+   *
+   * <ol>
+   *   <li>Record the player input, and a keyframe every {@code Constant.REPLAY_KEYFRAME_TICKS}.
+   *       Also into the rewind buffer, if any.
+   *   <li>Store the previous position of each entity, for render interpolation.
+   *   <li>Generate enemy.
+   *   <li>Determine whether the player want to shoot, its bullets are spawned at the end.
+   *   <li>Detect collisions.
+   *   <li>Update position and state of each {@link AbstractEntity}, in parallel from {@link
+   *       #setParallelThreshold(int)} entities on. Straight and curved bullets are moved in batches
+   *       by {@link BulletSystem} once the loop is done.
+   *   <li>Apply the despawns requested during the tick and kill bullets outside the world,
+   *       whoever created them. Then remove dead objects in one pass, update {@code numberOfEnemy}
+   *       and return dead bullets to their pool.
+   *   <li>Add the entities spawned during the tick, see {@link SpawnSink}.
+   * </ol>
+   *
+   * <p>Each phase is timed into {@link #getMetrics()}. The tick and its collision pass are also
+   * reported as JFR events.
+   */
+  public void tick() {
+    final TickEvent event = new TickEvent();
+    event.begin();
+    long t = metrics.beginTick();
+    entities.resetCounts();
+    recorder.record(this, playerAircraft.getInput());
+    if (rewindBuffer != null) {
+      rewindBuffer.record(this, playerAircraft.getInput());
+    }
+    for (int i = 0; i < entities.size(); i++) {
+      entities.get(i).storePreviousPosition();
+    }
+
+    generateEnemy();
+    t = metrics.lap(Phase.SPAWN, t);
+
+    if (playerAircraft.wantToShoot()) {
+      playerAircraft.shoot(spawnBuffer);
+    }
+    t = metrics.lap(Phase.SHOOT, t);
+
+    detectCollision();
+    t = metrics.lap(Phase.COLLIDE, t);
+
+    updateEntities();
+    bulletSystem.update();
+    t = metrics.lap(Phase.UPDATE, t);
+
+    spawnBuffer.applyDespawns();
+    for (int i = 0; i < entities.size(); i++) {
+      if (entities.get(i) instanceof AbstractBullet bullet) {
+        bullet.cullOutside(worldSize);
+      }
+    }
+    entities.compact(retire);
+    spawnBuffer.applySpawns(entities);
+    metrics.lap(Phase.REMOVE, t);
+
+    tickCount++;
+    metrics.endTick(entities, entities.getAdded(), entities.getRemoved());
+    watchdog.observe(tickCount, entities);
+
+    if (event.shouldCommit()) {
+      event.tick = tickCount;
+      event.round = round;
+      event.entities = entities.size();
+      event.added = entities.getAdded();
+      event.removed = entities.getRemoved();
+      event.enemies = numberOfEnemy;
+      event.batchedBullets = bulletSystem.size();
+      event.commit();
+    }
+  }
+
+  /**
+   * Update every entity, sequentially or on the common fork-join pool.
+   *
+   * <p>Both paths give the same result: entities only change themselves during the update and
+   * their spawns are applied in entity order, see {@link ParallelUpdater}. The only state read
+   * across entities is the player position, which homing bullets steer to, so the player is
+   * updated before the other entities are forked, as it comes first in a sequential pass.
+   */
+  private void updateEntities() {
+    final int size = entities.size();
+    if (size < parallelThreshold) {
+      for (int i = 0; i < size; i++) {
+        final AbstractEntity entity = entities.get(i);
+        prepare(entity);
+        entity.update(spawnBuffer);
+      }
+      return;
+    }
+
+    for (int i = 0; i < size; i++) {
+      prepare(entities.get(i));
+    }
+    // The player is added first and compaction keeps the order, so it is first unless it died.
+    int from = 0;
+    if (entities.get(0) == playerAircraft) {
+      playerAircraft.update(spawnBuffer);
+      from = 1;
+    }
+    parallelUpdater.update(entities, from, spawnBuffer);
+  }
+
+  /** Give an entity the world size if it has none, and hand bullets to the bullet system. */
+  private void prepare(final AbstractEntity entity) {
+    if (entity.getWorldSize() == null) {
+      entity.setWorldSize(worldSize);
+    }
+    if (entity instanceof AbstractBullet bullet) {
+      bulletSystem.track(bullet);
+    }
+  }
+
+  /**
+   * Write what is needed to draw the current tick into a render snapshot.
+   *
+   * @param snapshot Snapshot to overwrite.
+   */
+  public void capture(final RenderSnapshot snapshot) {
+    snapshot.clear();
+    for (int i = 0; i < entities.size(); i++) {
+      entities.get(i).capture(snapshot);
+    }
+    snapshot.setState(
+        tickCount,
+        round,
+        scoreManager.getScore(),
+        playerAircraft.getHp(),
+        outcome);
+  }
+
+  /**
+   * Get a replay of the current round, up to the last tick.
+   *
+   * @return Replay, independent of later ticks.
+   */
+  public Replay getReplay() {
+    return recorder.toReplay(this, scoreManager.getScore(), outcome);
+  }
+
+  /**
+   * Get the seed of the current round.
+   *
+   * @return Seed given to {@link #reset(long)}.
+   */
+  public long getSeed() {
+    return random.getSeed();
+  }
+
+  /**
+   * Enable or disable recording, e.g. to not record a replay which is played.
+   *
+   * @param recording Whether input and keyframes are recorded, {@code true} by default.
+   */
+  public void setRecording(final boolean recording) {
+    recorder.setEnabled(recording);
+  }
+
+  /**
+   * Keep recent states and inputs to go back to with {@link #rewind(long)}.
+   *
+   * @param rewindBuffer Empty buffer, or {@code null} to not keep any.
+   */
+  public void setRewindBuffer(final RewindBuffer rewindBuffer) {
+    this.rewindBuffer = rewindBuffer;
+  }
+
+  /**
+   * Go back in the current round, as far as the rewind buffer reaches.
+   *
+   * <p>The last snapshot before the target tick is restored and the ticks from there are simulated
+   * with the recorded input, so the world is exactly as it was at that tick, but for the input of
+   * the player, which is kept. What happened after it is dropped from the rewind buffer and from
+   * the replay, which stays valid from the start of the round.
+   *
+   * @param ticks Ticks to go back.
+   * @return Tick reached, or {@code -1} if there was nothing to go back to.
+   */
+  public long rewind(final long ticks) {
+    if (rewindBuffer == null) {
+      return -1;
+    }
+    final int slot = rewindBuffer.find(tickCount - ticks);
+    if (slot < 0) {
+      return -1;
+    }
+    final long snapshot = rewindBuffer.getTick(slot);
+    final long target = Math.max(tickCount - ticks, snapshot);
+    final int input = playerAircraft.getInput();
+
+    restoreState(rewindBuffer.getState(slot));
+    rewindBuffer.truncate(snapshot);
+    if (!recorder.truncate(snapshot)) {
+      recorder.restart(this);
+    }
+    while (tickCount < target && outcome == GAME_STATE.RUNNING) {
+      playerAircraft.setInput(rewindBuffer.getInput(tickCount));
+      tick();
+    }
+    playerAircraft.setInput(input);
+    return tickCount;
+  }
+
+  /**
+   * Get the target of homing bullets, the current player aircraft.
+   *
+   * @return Shared target provider.
+   */
+  public HomingTrajectory.TargetProvider getPlayerTarget() {
+    return playerTarget;
+  }
+
+  /**
+   * Write the whole simulation state at the current tick.
+   *
+   * <p>Written between two ticks, the state holds everything the next ticks depend on: the tick
+   * count, the outcome and enemy phase, the score, the random number generator, the spawner, the
+   * player and every entity in order. Caches such as the bullet stores and the collision layers are
+   * rebuilt from it.
+   *
+   * @param out Buffer to write to.
+   * @throws java.nio.BufferOverflowException If the buffer is too small.
+   */
+  public void writeState(final ByteBuffer out) {
+    out.putLong(tickCount);
+    out.put((byte) outcome.ordinal());
+    out.put((byte) enemyStage.ordinal());
+    out.putInt(scoreManager.getScore());
+    out.putLong(random.getSeed());
+    out.putLong(random.getDraws());
+    enemySpawner.writeState(out);
+    playerAircraft.writeState(out);
+
+    out.putInt(entities.size());
+    for (int i = 0; i < entities.size(); i++) {
+      final AbstractEntity entity = entities.get(i);
+      final EntityKind kind = EntityKind.of(entity);
+      out.put((byte) kind.ordinal());
+      if (kind != EntityKind.PLAYER) {
+        entity.writeState(out);
+      }
+    }
+  }
+
+  /**
+   * Replace the simulation state by one written by {@link #writeState(ByteBuffer)}.
+   *
+   * <p>The current entities are dropped, bullets are returned to their pool. The player aircraft is
+   * kept and overwritten, so references to it stay valid. Homing bullets are restored targeting
+   * {@link #getPlayerTarget()}. The replay is recorded again from the restored tick, and the rewind
+   * buffer is cleared.
+   *
+   * @param in Buffer to read from.
+   */
+  public void readState(final ByteBuffer in) {
+    restoreState(in);
+    if (rewindBuffer != null) {
+      rewindBuffer.clear();
+    }
+    recorder.restart(this);
+  }
+
+  /** Replace the simulation state, leaving the replay and the rewind buffer to the caller. */
+  private void restoreState(final ByteBuffer in) {
+    for (int i = 0; i < entities.size(); i++) {
+      if (entities.get(i) instanceof AbstractBullet bullet) {
+        bulletSystem.release(bullet);
+        BulletFactory.recycle(bullet);
+      }
+    }
+    entities.clear();
+    spawnBuffer.clear();
+    bulletSystem.clear();
+
+    final GAME_STATE[] states = GAME_STATE.values();
+    tickCount = in.getLong();
+    outcome = states[in.get()];
+    enemyStage = PHASE.values()[in.get()];
+    scoreManager.setScore(in.getInt());
+    final long seed = in.getLong();
+    random.restore(seed, in.getLong());
+    enemySpawner.readState(in);
+    playerAircraft.readState(in);
+
+    final EntityKind[] kinds = EntityKind.values();
+    final int count = in.getInt();
+    numberOfEnemy = 0;
+    BossEnemy boss = null;
+    for (int i = 0; i < count; i++) {
+      final EntityKind kind = kinds[in.get()];
+      final AbstractEntity entity = kind.create(this);
+      if (kind != EntityKind.PLAYER) {
+        entity.readState(in);
+      }
+      if (entity instanceof AbstractEnemyAircraft) {
+        numberOfEnemy++;
+      }
+      if (entity instanceof BossEnemy bossEnemy) {
+        boss = bossEnemy;
+      }
+      entities.add(entity);
+    }
+    enemySpawner.setBoss(boss);
+
+    watchdog.reset();
+  }
+
+  public WorldSize getWorldSize() {
+    return worldSize;
+  }
+
+  /**
+   * Get all entities of the world, in drawing order.
+   *
+   * @return The live entity list; callers must not modify it.
+   */
+  public List<AbstractEntity> getEntities() {
+    return entities;
+  }
+
+  public PlayerAircraft getPlayerAircraft() {
+    return playerAircraft;
+  }
+
+  public ScoreManager getScoreManager() {
+    return scoreManager;
+  }
+
+  public TickMetrics getMetrics() {
+    return metrics;
+  }
+
+  public long getTickCount() {
+    return tickCount;
+  }
+
+  /**
+   * Get the number of rounds started, the first round is {@code 1}.
+   *
+   * @return Number of calls to {@link #reset()}.
+   */
+  public int getRound() {
+    return round;
+  }
+
+  /**
+   * Set the number of entities from which they are updated in parallel.
+   *
+   * <p>Defaults to {@code Constant.PARALLEL_UPDATE_THRESHOLD} if {@code Constant.PARALLEL_UPDATE}
+   * is set. The simulation is the same either way, only its speed changes.
+   *
+   * @param parallelThreshold Entity count, {@link Integer#MAX_VALUE} to always update sequentially.
+   */
+  public void setParallelThreshold(final int parallelThreshold) {
+    this.parallelThreshold = parallelThreshold;
+  }
+
+  public PHASE getEnemyStage() {
+    return enemyStage;
+  }
+
+  /**
+   * Set the outcome of the round.
+   *
+   * @param outcome {@code GAME_STATE.SUCCESS} or {@code GAME_STATE.FAIL}.
+   */
+  public void setOutcome(final GAME_STATE outcome) {
+    this.outcome = outcome;
+  }
+
+  /**
+   * Get the outcome of the round.
+   *
+   * @return {@code GAME_STATE.RUNNING} while the round is not decided.
+   */
+  public GAME_STATE getOutcome() {
+    return outcome;
+  }
+
+  /**
+   * Generate enemies according to different phases and scores.
+   *
+   * <p>If the number of enemy reaches the limit, this method will do nothing.
+   */
+  private void generateEnemy() {
+    if (numberOfEnemy >= Constant.ENEMY_NUMBER_LIMIT) {
+      return;
+    }
+
+    // Update the phase before entering switch-case statements.
+    final int currentScore = scoreManager.getScore();
+    if (enemyStage == PHASE.NORMAL && currentScore >= Constant.GENERATE_ELITE_SCORE) {
+      enemyStage = PHASE.ELITE;
+    } else if (enemyStage == PHASE.ELITE && currentScore >= Constant.GENERATE_BOSS_SCORE) {
+      enemyStage = PHASE.BOSS;
+    }
+
+    // | Phase  |     Enemy       |
+    // | ------ | --------------- |
+    // | NORMAL | Normal          |
+    // | ELITE  | Elite + Normal  |
+    // | BOSS   | Boss            |
+    switch (enemyStage) {
+      case NORMAL:
+        if (enemySpawner.spawnNormal()) {
+          numberOfEnemy++;
+        }
+        break;
+      case ELITE:
+        if (enemySpawner.spawnElite()) {
+          numberOfEnemy++;
+        }
+        if (enemySpawner.spawnNormal()) {
+          numberOfEnemy++;
+        }
+        break;
+      case BOSS:
+        if (enemySpawner.spawnBoss(this)) {
+          numberOfEnemy++;
+        }
+        break;
+    }
+  }
+
+  /**
+   * Book-keeping for an entity removed from the world.
+   *
+   * @param entity Dead entity.
+   */
+  private void retire(final AbstractEntity entity) {
+    if (entity instanceof AbstractEnemyAircraft) {
+      numberOfEnemy--;
+    } else if (entity instanceof AbstractBullet bullet) {
+      bulletSystem.release(bullet);
+      BulletFactory.recycle(bullet);
+    }
+  }
+
+  /**
+   * Detect collisions between interacting collision layers.
+   *
+   * <p>Live entities are sorted into per-layer lists first, so that pairs which can never collide,
+   * such as two bullets or two enemies, are never enumerated.
+   */
+  private void detectCollision() {
+    final CollisionEvent event = new CollisionEvent();
+    event.begin();
+    collisionDetector.resetCounters();
+
+    for (int i = 0; i < layerEntities.size(); i++) {
+      layerEntities.get(i).clear();
+    }
+    int layered = 0;
+    for (int i = 0; i < entities.size(); i++) {
+      final AbstractEntity entity = entities.get(i);
+      final int index = CollisionLayer.indexOf(entity.getCollisionLayer());
+      if (entity.isAlive() && index >= 0) {
+        layerEntities.get(index).add(entity);
+        layered++;
+      }
+    }
+
+    for (final int[] pair : CollisionLayer.INTERACTING_PAIRS) {
+      collisionDetector.detectCollision(layerEntities.get(pair[0]), layerEntities.get(pair[1]));
+    }
+
+    if (event.shouldCommit()) {
+      event.entities = layered;
+      event.pairsTested = collisionDetector.getPairsTested();
+      event.hits = collisionDetector.getHits();
+      event.commit();
+    }
+  }
+}
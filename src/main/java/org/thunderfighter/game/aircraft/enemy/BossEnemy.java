@@ -2,15 +2,15 @@
 
 package org.thunderfighter.game.aircraft.enemy;
 
-import java.util.List;
+import java.nio.ByteBuffer;
 import javafx.geometry.Dimension2D;
-import javafx.scene.canvas.Canvas;
-import javafx.scene.image.Image;
 import org.thunderfighter.core.abstractor.AbstractEnemyAircraft;
-import org.thunderfighter.core.abstractor.AbstractEntity;
-import org.thunderfighter.game.Game;
+import org.thunderfighter.core.entity.SpawnSink;
+import org.thunderfighter.core.metrics.BossPhaseEvent;
+import org.thunderfighter.core.render.SpriteId;
+import org.thunderfighter.core.world.WorldSize;
+import org.thunderfighter.game.World;
 import org.thunderfighter.game.bulletfactory.BulletFactory;
-import org.thunderfighter.game.trajectory.HomingTrajectory;
 import org.thunderfighter.utils.Constant;
 
 /**
@@ -31,8 +31,8 @@ public class BossEnemy extends AbstractEnemyAircraft {
   /** The previous stage, used to detect if the stage has changed */
   private Stage lastStage = null;
 
-  /** The main game object, used to obtain the player's plane and modify the game state */
-  private Game game;
+  /** The world, used to obtain the player's plane and report the outcome */
+  private World world;
 
   /**
    * Boss's three phases Stage 1: High health Stage 2: Medium health Stage 3: Low health (Enrage)
@@ -51,9 +51,9 @@ public class BossEnemy extends AbstractEnemyAircraft {
    *
    * @param x Initial X coordinate
    * @param y Initial Y coordinate
-   * @param game Game object
+   * @param world World object
    */
-  public BossEnemy(double x, double y, Game game) {
+  public BossEnemy(double x, double y, World world) {
     this.x = x;
     this.y = y; // birth coordinates
 
@@ -68,8 +68,12 @@ public class BossEnemy extends AbstractEnemyAircraft {
 
     this.size = SIZE;
 
-    this.sprite = new Image(getClass().getResourceAsStream("/images/Aircraft/BossEnemy.png"));
-    this.game = game;
+    this.world = world;
+  }
+
+  @Override
+  public SpriteId getSpriteId() {
+    return SpriteId.BOSS;
   }
 
   /** Boss's movement logic Moves back and forth between the center of the screen */
@@ -87,11 +91,29 @@ public class BossEnemy extends AbstractEnemyAircraft {
     }
   }
 
+  @Override
+  public void writeState(ByteBuffer out) {
+    super.writeState(out);
+    out.put((byte) (movingRight ? 1 : 0));
+    out.put((byte) stage.ordinal());
+    out.put((byte) (lastStage == null ? -1 : lastStage.ordinal()));
+  }
+
+  @Override
+  public void readState(ByteBuffer in) {
+    super.readState(in);
+    final Stage[] stages = Stage.values();
+    movingRight = in.get() != 0;
+    stage = stages[in.get()];
+    final int last = in.get();
+    lastStage = last < 0 ? null : stages[last];
+  }
+
   /** Triggered when the Boss dies Game state switches to victory */
   @Override
   protected void onDie() {
     super.onDie();
-    game.setGameState(Constant.GAME_STATE.SUCCESS);
+    world.setOutcome(Constant.GAME_STATE.SUCCESS);
   }
 
   /**
@@ -99,8 +121,8 @@ public class BossEnemy extends AbstractEnemyAircraft {
    * accordingly
    */
   @Override
-  protected void onUpdate(List<AbstractEntity> worldEntities) {
-    super.onUpdate(worldEntities);
+  protected void onUpdate(SpawnSink sink) {
+    super.onUpdate(sink);
 
     if (hp >= 20) {
       stage = Stage.stage1;
@@ -113,6 +135,14 @@ public class BossEnemy extends AbstractEnemyAircraft {
     }
 
     if (stage != lastStage) {
+      final BossPhaseEvent event = new BossPhaseEvent();
+      if (event.shouldCommit()) {
+        event.from = lastStage == null ? null : lastStage.name();
+        event.to = stage.name();
+        event.hp = hp;
+        event.commit();
+      }
+
       switch (stage) {
         case stage1 -> shootInterval = 90;
         case stage2 -> shootInterval = 150;
@@ -126,16 +156,16 @@ public class BossEnemy extends AbstractEnemyAircraft {
 
   /** Boss Shooting Entry Activate different shooting modes based on the current stage */
   @Override
-  protected void doShoot(List<AbstractEntity> worldEntities) {
+  protected void doShoot(SpawnSink sink) {
     switch (stage) {
       case stage1:
-        shootStage1(worldEntities);
+        shootStage1(sink);
         break;
       case stage2:
-        shootStage2(worldEntities);
+        shootStage2(sink);
         break;
       case stage3:
-        shootStage3(worldEntities);
+        shootStage3(sink);
         break;
     }
   }
@@ -144,31 +174,31 @@ public class BossEnemy extends AbstractEnemyAircraft {
    * First stage firing method - Three straight-line bullets in a scattering pattern - Two curved
    * bullets
    */
-  private void shootStage1(List<AbstractEntity> worldEntities) {
-    Canvas c = getCanvas();
+  private void shootStage1(SpawnSink sink) {
+    WorldSize c = getWorldSize();
     if (c == null) return;
 
     double cx = x + size.getWidth() / 2; // @params
     double by = y + size.getHeight();
 
     for (int i = -1; i <= 1; i++) {
-      worldEntities.add(
+      sink.spawn(
           BulletFactory.createEnemyBullet(c, cx + i * 20, by + 4, i * 0.6, 3.5, false));
     }
 
-    worldEntities.add(BulletFactory.createCurvedEnemyBullet(c, cx - 40, by, -1.2, 3.0, 0.05));
-    worldEntities.add(BulletFactory.createCurvedEnemyBullet(c, cx - 40, by, -1.2, 3.0, -0.05));
+    sink.spawn(BulletFactory.createCurvedEnemyBullet(c, cx - 40, by, -1.2, 3.0, 0.05));
+    sink.spawn(BulletFactory.createCurvedEnemyBullet(c, cx - 40, by, -1.2, 3.0, -0.05));
   }
 
   /** Second stage firing method - 1 homing bullet - 7 fan-shaped straight bullets */
-  private void shootStage2(List<AbstractEntity> worldEntities) {
-    Canvas c = getCanvas();
+  private void shootStage2(SpawnSink sink) {
+    WorldSize c = getWorldSize();
     if (c == null) return;
 
     double cx = x + size.getWidth() / 2;
     double by = y + size.getHeight();
 
-    worldEntities.add(
+    sink.spawn(
         BulletFactory.createHomingBullet(
             c,
             cx,
@@ -176,39 +206,27 @@ public class BossEnemy extends AbstractEnemyAircraft {
             0,
             2.5,
             150, // Tracking bullet (locks onto player for 2.5 seconds)
-            new HomingTrajectory.TargetProvider() {
-              @Override
-              public double getTargetX() {
-                return game.getPlayerAircraft() != null ? game.getPlayerAircraft().getX() : cx;
-              }
-
-              @Override
-              public double getTargetY() {
-                return game.getPlayerAircraft() != null
-                    ? game.getPlayerAircraft().getY()
-                    : by + 200;
-              }
-            }));
+            world.getPlayerTarget()));
 
     for (int i = -3; i <= 3; i++) {
-      worldEntities.add(BulletFactory.createEnemyBullet(c, cx, by + 4, i * 0.8, 3.8, i == 0));
+      sink.spawn(BulletFactory.createEnemyBullet(c, cx, by + 4, i * 0.8, 3.8, i == 0));
     }
   }
 
   /**
    * Third stage firing mode (Berserk) - Laser - Homing projectile - High-speed linear projectile
    */
-  private void shootStage3(List<AbstractEntity> worldEntities) {
-    Canvas c = getCanvas();
+  private void shootStage3(SpawnSink sink) {
+    WorldSize c = getWorldSize();
     if (c == null) return;
 
     double cx = x + size.getWidth() / 2;
     double by = y + size.getHeight();
 
-    worldEntities.add(
+    sink.spawn(
         BulletFactory.createLaserBullet(c, cx - 30, by + 4, 0, 0, 60, 20)); // create Laser bullet
 
-    worldEntities.add(
+    sink.spawn(
         BulletFactory.createHomingBullet(
             c,
             cx + 40,
@@ -216,21 +234,9 @@ public class BossEnemy extends AbstractEnemyAircraft {
             0,
             2.5,
             120, // tracking 2 seconds
-            new HomingTrajectory.TargetProvider() {
-              @Override
-              public double getTargetX() {
-                return game.getPlayerAircraft() != null ? game.getPlayerAircraft().getX() : cx;
-              }
-
-              @Override
-              public double getTargetY() {
-                return game.getPlayerAircraft() != null
-                    ? game.getPlayerAircraft().getY()
-                    : by + 200;
-              }
-            }));
-
-    worldEntities.add(
+            world.getPlayerTarget()));
+
+    sink.spawn(
         BulletFactory.createEnemyBullet(c, cx, by + 4, 0, 4.5, true)); // create straight bullet
   }
 }
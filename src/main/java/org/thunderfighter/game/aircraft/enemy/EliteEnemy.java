@@ -2,12 +2,12 @@
 
 package org.thunderfighter.game.aircraft.enemy;
 
-import java.util.List;
 import javafx.geometry.Dimension2D;
-import javafx.scene.image.Image;
 import org.thunderfighter.core.abstractor.AbstractEnemyAircraft;
-import org.thunderfighter.core.abstractor.AbstractEntity;
+import org.thunderfighter.core.entity.SpawnSink;
+import org.thunderfighter.core.render.SpriteId;
 import org.thunderfighter.game.bullet.NormalEnemyBullet;
+import org.thunderfighter.game.bulletfactory.BulletFactory;
 
 /**
  * EliteEnemy Elite Enemy Plane Characteristics: - Low Health - Moves vertically downwards in a
@@ -34,14 +34,17 @@ public class EliteEnemy extends AbstractEnemyAircraft {
     this.score = 50;
     this.canShoot = true;
     this.shootInterval = 120;
+  }
 
-    this.sprite = new Image(getClass().getResourceAsStream("/images/Aircraft/EliteEnemy.png"));
+  @Override
+  public SpriteId getSpriteId() {
+    return SpriteId.ELITE_ENEMY;
   }
 
   /** Update logic per frame Currently only calling parent class logic */
   @Override
-  protected void onUpdate(List<AbstractEntity> worldEntities) {
-    super.onUpdate(worldEntities);
+  protected void onUpdate(SpawnSink sink) {
+    super.onUpdate(sink);
   }
 
   /** Movement logic Elite enemy aircraft only move vertically downwards */
@@ -52,10 +55,10 @@ public class EliteEnemy extends AbstractEnemyAircraft {
 
   /** Shooting logic Fire a standard enemy bullet directly downwards */
   @Override
-  protected void doShoot(List<AbstractEntity> worldEntities) {
+  protected void doShoot(SpawnSink sink) {
     NormalEnemyBullet bullet =
-        new NormalEnemyBullet(
-            x + size.getWidth() / 2 - 4, y + size.getHeight() + 4, 0, 4, false); // @params
-    worldEntities.add(bullet);
+        BulletFactory.createEnemyBullet(
+            getWorldSize(), x + size.getWidth() / 2 - 4, y + size.getHeight() + 4, 0, 4, false);
+    sink.spawn(bullet);
   }
 }
@@ -2,11 +2,10 @@
 
 package org.thunderfighter.game.aircraft.enemy;
 
-import java.util.List;
 import javafx.geometry.Dimension2D;
-import javafx.scene.image.Image;
 import org.thunderfighter.core.abstractor.AbstractEnemyAircraft;
-import org.thunderfighter.core.abstractor.AbstractEntity;
+import org.thunderfighter.core.entity.SpawnSink;
+import org.thunderfighter.core.render.SpriteId;
 
 /** Normal Enemy Characteristics: - Lowest Health - Only moves vertically downwards - Cannot fire */
 public class NormalEnemy extends AbstractEnemyAircraft {
@@ -29,14 +28,17 @@ public class NormalEnemy extends AbstractEnemyAircraft {
     this.speed = 2;
     this.score = 10;
     this.canShoot = false;
+  }
 
-    this.sprite = new Image(getClass().getResourceAsStream("/images/Aircraft/NormalEnemy.png"));
+  @Override
+  public SpriteId getSpriteId() {
+    return SpriteId.NORMAL_ENEMY;
   }
 
   /** Update logic per frame Currently only performing basic updates for the parent class */
   @Override
-  protected void onUpdate(List<AbstractEntity> worldEntities) {
-    super.onUpdate(worldEntities);
+  protected void onUpdate(SpawnSink sink) {
+    super.onUpdate(sink);
   }
 
   /** Movement logic Normal enemy aircraft always move vertically downwards */
@@ -47,7 +49,7 @@ public class NormalEnemy extends AbstractEnemyAircraft {
 
   /** Firing logic Ordinary enemy aircraft do not have firing capabilities */
   @Override
-  protected void doShoot(List<AbstractEntity> worldEntities) {
+  protected void doShoot(SpawnSink sink) {
     // Normal enemy does not shoot
   }
 }
@@ -2,14 +2,15 @@
 
 package org.thunderfighter.game.aircraft.player;
 
-import java.util.List;
+import java.nio.ByteBuffer;
 import javafx.geometry.Dimension2D;
-import javafx.scene.canvas.Canvas;
-import javafx.scene.image.Image;
-import org.thunderfighter.core.abstractor.AbstractEntity;
 import org.thunderfighter.core.abstractor.AbstractPlayerAircraft;
-import org.thunderfighter.game.Game;
+import org.thunderfighter.core.entity.SpawnSink;
+import org.thunderfighter.core.render.SpriteId;
+import org.thunderfighter.game.World;
 import org.thunderfighter.game.bullet.PlayerBullet;
+import org.thunderfighter.game.bulletfactory.BulletFactory;
+import org.thunderfighter.utils.Constant;
 import org.thunderfighter.utils.Constant.GAME_STATE;
 
 /**
@@ -22,11 +23,11 @@ public class PlayerAircraft extends AbstractPlayerAircraft {
   /** Player aircraft dimensions (width 60, height 80) */
   public static final Dimension2D SIZE = new Dimension2D(60, 80); // @params
 
-  /** Timestamp of the last time damage was taken (milliseconds) */
-  private long lastDamageTime = 0; // last damage
+  /** Injury cooldown (ticks), used to prevent continuous health loss */
+  private static final int DAMAGE_COOLDOWN_TICKS = Constant.TPS; // damage cd
 
-  /** Injury cooldown (milliseconds), used to prevent continuous health loss */
-  private final long damageCooldown = 1000; // damage cd
+  /** Ticks left until damage is taken again */
+  private int damageCooldown = 0;
 
   /**
    * Constructor
@@ -36,11 +37,9 @@ public class PlayerAircraft extends AbstractPlayerAircraft {
    * @param hp Initial health
    * @param speed Movement speed
    * @param shootInterval Shooting interval (frames)
-   * @param canvas Game canvas
-   * @param game Main game object
+   * @param world World the aircraft lives in
    */
-  public PlayerAircraft(
-      double x, double y, int hp, double speed, int shootInterval, Canvas canvas, Game game) {
+  public PlayerAircraft(double x, double y, int hp, double speed, int shootInterval, World world) {
     this.x = x;
     this.y = y;
     this.hp = hp;
@@ -48,9 +47,13 @@ public class PlayerAircraft extends AbstractPlayerAircraft {
     this.shootInterval = shootInterval;
     this.size = SIZE;
 
-    this.sprite = new Image(getClass().getResourceAsStream("/images/Aircraft/PlayerAircraft.png"));
-    this.canvas = canvas;
-    this.game = game;
+    this.world = world;
+    this.worldSize = world.getWorldSize();
+  }
+
+  @Override
+  public SpriteId getSpriteId() {
+    return SpriteId.PLAYER;
   }
 
   /**
@@ -88,9 +91,9 @@ public class PlayerAircraft extends AbstractPlayerAircraft {
     tempY += dy * speed;
 
     if (tempX <= 0
-        || tempX + this.size.getWidth() >= canvas.getWidth()
+        || tempX + this.size.getWidth() >= worldSize.width()
         || tempY <= 0
-        || tempY + this.size.getHeight() >= canvas.getHeight()) {
+        || tempY + this.size.getHeight() >= worldSize.height()) {
       return;
     }
 
@@ -100,26 +103,50 @@ public class PlayerAircraft extends AbstractPlayerAircraft {
 
   /** Player shooting logic Fire a player bullet directly above the plane */
   @Override
-  protected void doShoot(List<AbstractEntity> worldEntities) {
-    PlayerBullet bullet = new PlayerBullet(x + size.getWidth() / 2 - 4, y - 10); // @params
-    bullet.setCanvas(canvas);
-    worldEntities.add(bullet); // by manager instance to manage it.
+  protected void doShoot(SpawnSink sink) {
+    PlayerBullet bullet =
+        BulletFactory.createPlayerBullet(worldSize, x + size.getWidth() / 2 - 4, y - 10); // @params
+    sink.spawn(bullet); // by manager instance to manage it.
+  }
+
+  @Override
+  public void writeState(ByteBuffer out) {
+    super.writeState(out);
+    out.putInt(damageCooldown);
+  }
+
+  @Override
+  public void readState(ByteBuffer in) {
+    super.readState(in);
+    damageCooldown = in.getInt();
+  }
+
+  /**
+   * Per-frame update logic, additionally counts down the damage cooldown
+   *
+   * @param sink Receives the entities spawned during the tick
+   */
+  @Override
+  protected void onUpdate(SpawnSink sink) {
+    super.onUpdate(sink);
+    if (damageCooldown > 0) {
+      damageCooldown--;
+    }
   }
 
   /**
-   * Player damage logic - There is a cooldown period for taking damage (invincibility frames) -
-   * Game ends when health reaches zero
+   * Player damage logic - There is a cooldown period for taking damage (invincibility frames),
+   * counted in ticks so that a replay takes the same hits - Game ends when health reaches zero
    */
   @Override
   public void takeDamage(int amount) {
-    long currentTime = System.currentTimeMillis();
-    if (currentTime - lastDamageTime >= damageCooldown) {
+    if (damageCooldown == 0) {
       this.hp -= amount;
-      lastDamageTime = currentTime; // update damage cd time
+      damageCooldown = DAMAGE_COOLDOWN_TICKS; // update damage cd
     }
     if (hp <= 0) {
       aliveFlag = false;
-      game.setGameState(GAME_STATE.FAIL);
+      world.setOutcome(GAME_STATE.FAIL);
     }
   }
 }
@@ -0,0 +1,305 @@
+// src/main/java/org/thunderfighter/game/bullet/BulletStore.java
+
+package org.thunderfighter.game.bullet;
+
+import java.util.Arrays;
+import org.thunderfighter.core.abstractor.AbstractBullet;
+import org.thunderfighter.game.trajectory.CurveTrajectory;
+
+/**
+ * BulletStore
+ *
+ * <p>Structure-of-arrays storage for bullets sharing one trajectory kind. Position, velocity, size
+ * and liveness live in parallel primitive arrays and {@link #update()} advances every bullet in a
+ * single loop, instead of one virtual {@code update} and {@code trajectory.update} per bullet.
+ *
+ * <p>Slots are kept dense: removing a bullet moves the last slot into the hole, so the loop never
+ * skips gaps. Each stored bullet keeps a pointer to its slot and reads and writes its kinematic
+ * state through it, which keeps the bullet classes usable as views.
+ *
+ * <p>The math of each kind is the same as {@code StraightTrajectory} and {@link CurveTrajectory}, so
+ * a bullet moves identically whether it is stored or not.
+ */
+public final class BulletStore {
+
+  /** Trajectory kinds with a batched update loop. */
+  public enum Kind {
+    STRAIGHT,
+    CURVE
+  }
+
+  private static final int INITIAL_CAPACITY = 256;
+
+  private final Kind kind;
+
+  /** Number of used slots, slots {@code [0, count)} are dense. */
+  private int count;
+
+  /** World size used to cull bullets leaving the screen; 0 disables culling. */
+  private double worldWidth;
+
+  private double worldHeight;
+
+  private double[] x = new double[INITIAL_CAPACITY];
+  private double[] y = new double[INITIAL_CAPACITY];
+  private double[] dx = new double[INITIAL_CAPACITY];
+  private double[] dy = new double[INITIAL_CAPACITY];
+  private double[] width = new double[INITIAL_CAPACITY];
+  private double[] height = new double[INITIAL_CAPACITY];
+  private boolean[] alive = new boolean[INITIAL_CAPACITY];
+  private AbstractBullet[] owners = new AbstractBullet[INITIAL_CAPACITY];
+
+  // Curve parameters, only used by Kind.CURVE.
+  private double[] factor;
+  private double[] gravity;
+  private boolean[] keepSpeed;
+  private double[] minDownVy;
+  private double[] maxSpeed;
+
+  public BulletStore(Kind kind) {
+    this.kind = kind;
+    if (kind == Kind.CURVE) {
+      factor = new double[INITIAL_CAPACITY];
+      gravity = new double[INITIAL_CAPACITY];
+      keepSpeed = new boolean[INITIAL_CAPACITY];
+      minDownVy = new double[INITIAL_CAPACITY];
+      maxSpeed = new double[INITIAL_CAPACITY];
+    }
+  }
+
+  public Kind getKind() {
+    return kind;
+  }
+
+  /** Number of stored bullets. */
+  public int size() {
+    return count;
+  }
+
+  /** Sets the world size used to cull bullets which left it. */
+  public void setWorldSize(double width, double height) {
+    this.worldWidth = width;
+    this.worldHeight = height;
+  }
+
+  /**
+   * Moves a bullet into the store. From now on its kinematic state lives here.
+   *
+   * @param bullet an unstored bullet
+   * @param curve curve parameters, required for {@link Kind#CURVE}
+   */
+  public void add(AbstractBullet bullet, CurveTrajectory curve) {
+    if (count == owners.length) {
+      grow();
+    }
+
+    final int slot = count++;
+    x[slot] = bullet.getX();
+    y[slot] = bullet.getY();
+    dx[slot] = bullet.getDx();
+    dy[slot] = bullet.getDy();
+    width[slot] = bullet.getSize().getWidth();
+    height[slot] = bullet.getSize().getHeight();
+    alive[slot] = true;
+    owners[slot] = bullet;
+
+    if (kind == Kind.CURVE) {
+      factor[slot] = curve.getFactor();
+      gravity[slot] = curve.getGravity();
+      keepSpeed[slot] = curve.isKeepSpeed();
+      minDownVy[slot] = curve.getMinDownVy();
+      maxSpeed[slot] = curve.getMaxSpeed();
+    }
+
+    bullet.attach(this, slot);
+  }
+
+  /**
+   * Moves a bullet out of the store, writing its state back to its fields.
+   *
+   * @param slot slot of the bullet
+   */
+  public void remove(int slot) {
+    owners[slot].detach();
+
+    final int last = --count;
+    if (slot != last) {
+      x[slot] = x[last];
+      y[slot] = y[last];
+      dx[slot] = dx[last];
+      dy[slot] = dy[last];
+      width[slot] = width[last];
+      height[slot] = height[last];
+      alive[slot] = alive[last];
+      owners[slot] = owners[last];
+
+      if (kind == Kind.CURVE) {
+        factor[slot] = factor[last];
+        gravity[slot] = gravity[last];
+        keepSpeed[slot] = keepSpeed[last];
+        minDownVy[slot] = minDownVy[last];
+        maxSpeed[slot] = maxSpeed[last];
+      }
+
+      owners[slot].attach(this, slot);
+    }
+    owners[last] = null;
+  }
+
+  /** Removes every bullet, writing their state back to their fields. */
+  public void clear() {
+    while (count > 0) {
+      remove(count - 1);
+    }
+  }
+
+  /** Advances every live bullet by one tick, then culls those outside the world. */
+  public void update() {
+    if (kind == Kind.STRAIGHT) {
+      updateStraight();
+    } else {
+      updateCurve();
+    }
+
+    if (worldWidth > 0 && worldHeight > 0) {
+      cull();
+    }
+  }
+
+  // ----------------------------
+  // Slot accessors (used by views)
+  // ----------------------------
+
+  public double getX(int slot) {
+    return x[slot];
+  }
+
+  public double getY(int slot) {
+    return y[slot];
+  }
+
+  public double getDx(int slot) {
+    return dx[slot];
+  }
+
+  public double getDy(int slot) {
+    return dy[slot];
+  }
+
+  public boolean isAlive(int slot) {
+    return alive[slot];
+  }
+
+  public void setX(int slot, double value) {
+    x[slot] = value;
+  }
+
+  public void setY(int slot, double value) {
+    y[slot] = value;
+  }
+
+  public void setDx(int slot, double value) {
+    dx[slot] = value;
+  }
+
+  public void setDy(int slot, double value) {
+    dy[slot] = value;
+  }
+
+  // ----------------------------
+  // Batched loops
+  // ----------------------------
+
+  /** Same as StraightTrajectory.update for every slot. */
+  private void updateStraight() {
+    final int n = count;
+    final double[] px = x;
+    final double[] py = y;
+    final double[] vx = dx;
+    final double[] vy = dy;
+    final boolean[] live = alive;
+    for (int i = 0; i < n; i++) {
+      if (live[i]) {
+        px[i] += vx[i];
+        py[i] += vy[i];
+      }
+    }
+  }
+
+  /** Same as CurveTrajectory.update for every slot. */
+  private void updateCurve() {
+    final int n = count;
+    for (int i = 0; i < n; i++) {
+      if (!alive[i]) continue;
+
+      final double vx = dx[i];
+      final double vy = dy[i];
+      final double f = factor[i];
+
+      double newVx = vx + -vy * f;
+      double newVy = vy + vx * f + gravity[i];
+
+      if (keepSpeed[i]) {
+        final double oldSpeed = Math.hypot(vx, vy);
+        final double newSpeed = Math.hypot(newVx, newVy);
+        if (oldSpeed > 1e-6 && newSpeed > 1e-6) {
+          final double scale = oldSpeed / newSpeed;
+          newVx *= scale;
+          newVy *= scale;
+        }
+      }
+
+      final double minVy = minDownVy[i];
+      if (minVy > 0.0 && newVy < minVy) {
+        newVy = minVy;
+      }
+
+      final double max = maxSpeed[i];
+      if (max > 0.0) {
+        final double s = Math.hypot(newVx, newVy);
+        if (s > max && s > 1e-6) {
+          final double scale = max / s;
+          newVx *= scale;
+          newVy *= scale;
+        }
+      }
+
+      dx[i] = newVx;
+      dy[i] = newVy;
+      x[i] += newVx;
+      y[i] += newVy;
+    }
+  }
+
+  /** Same rule as AbstractBullet.killIfOutOfBounds. */
+  private void cull() {
+    final int n = count;
+    final double w = worldWidth;
+    final double h = worldHeight;
+    for (int i = 0; i < n; i++) {
+      if (alive[i] && (x[i] + width[i] < 0 || x[i] > w || y[i] + height[i] < 0 || y[i] > h)) {
+        alive[i] = false;
+      }
+    }
+  }
+
+  private void grow() {
+    final int capacity = owners.length * 2;
+    x = Arrays.copyOf(x, capacity);
+    y = Arrays.copyOf(y, capacity);
+    dx = Arrays.copyOf(dx, capacity);
+    dy = Arrays.copyOf(dy, capacity);
+    width = Arrays.copyOf(width, capacity);
+    height = Arrays.copyOf(height, capacity);
+    alive = Arrays.copyOf(alive, capacity);
+    owners = Arrays.copyOf(owners, capacity);
+
+    if (kind == Kind.CURVE) {
+      factor = Arrays.copyOf(factor, capacity);
+      gravity = Arrays.copyOf(gravity, capacity);
+      keepSpeed = Arrays.copyOf(keepSpeed, capacity);
+      minDownVy = Arrays.copyOf(minDownVy, capacity);
+      maxSpeed = Arrays.copyOf(maxSpeed, capacity);
+    }
+  }
+}
@@ -0,0 +1,76 @@
+// src/main/java/org/thunderfighter/game/bullet/BulletSystem.java
+
+package org.thunderfighter.game.bullet;
+
+import org.thunderfighter.core.abstractor.AbstractBullet;
+import org.thunderfighter.core.entity.Trajectory;
+import org.thunderfighter.game.trajectory.CurveTrajectory;
+import org.thunderfighter.game.trajectory.StraightTrajectory;
+
+/**
+ * BulletSystem
+ *
+ * <p>Owns one {@link BulletStore} per batched trajectory kind and routes bullets to them. Straight
+ * and curved bullets are moved by the stores; other bullets (homing, laser) keep their per-object
+ * trajectory and are ignored here.
+ *
+ * <p>Usage per tick:
+ *
+ * <ol>
+ *   <li>{@link #track(AbstractBullet)} every bullet in the world (no-op once stored)
+ *   <li>{@link #update()} once, after the entity update loop
+ *   <li>{@link #release(AbstractBullet)} bullets removed from the world
+ * </ol>
+ */
+public final class BulletSystem {
+
+  private final BulletStore straight = new BulletStore(BulletStore.Kind.STRAIGHT);
+  private final BulletStore curve = new BulletStore(BulletStore.Kind.CURVE);
+
+  /** Sets the world size used by the stores to cull bullets leaving it. */
+  public void setWorldSize(double width, double height) {
+    straight.setWorldSize(width, height);
+    curve.setWorldSize(width, height);
+  }
+
+  /**
+   * Stores a live bullet if its trajectory has a batched loop.
+   *
+   * @param bullet a bullet of the world
+   */
+  public void track(AbstractBullet bullet) {
+    if (bullet.getStore() != null || !bullet.isAlive()) return;
+
+    Trajectory trajectory = bullet.getTrajectory();
+    if (trajectory instanceof StraightTrajectory) {
+      straight.add(bullet, null);
+    } else if (trajectory instanceof CurveTrajectory curveTrajectory) {
+      curve.add(bullet, curveTrajectory);
+    }
+  }
+
+  /** Advances all stored bullets by one tick and culls those outside the world. */
+  public void update() {
+    straight.update();
+    curve.update();
+  }
+
+  /** Takes a bullet out of its store, e.g. before it is recycled. */
+  public void release(AbstractBullet bullet) {
+    BulletStore store = bullet.getStore();
+    if (store != null) {
+      store.remove(bullet.getSlot());
+    }
+  }
+
+  /** Releases every stored bullet. */
+  public void clear() {
+    straight.clear();
+    curve.clear();
+  }
+
+  /** Number of bullets moved by the stores. */
+  public int size() {
+    return straight.size() + curve.size();
+  }
+}
@@ -2,13 +2,13 @@
 
 package org.thunderfighter.game.bullet;
 
-import java.util.List;
+import java.nio.ByteBuffer;
 import javafx.geometry.Dimension2D;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import org.thunderfighter.core.abstractor.AbstractBullet;
-import org.thunderfighter.core.abstractor.AbstractEntity;
 import org.thunderfighter.core.entity.Aircraft;
+import org.thunderfighter.core.entity.SpawnSink;
+import org.thunderfighter.core.render.SpriteId;
 import org.thunderfighter.game.trajectory.CurveTrajectory;
 
 /**
@@ -19,12 +19,11 @@ import org.thunderfighter.game.trajectory.CurveTrajectory;
  * <p>This type of bullet is typically used for area control, forcing the player to reposition
  * rather than dodge straight lines. The curvature behavior is determined by the curveFactor.
  */
-public class CurveEnemyBullet extends AbstractBullet {
+public final class CurveEnemyBullet extends AbstractBullet {
 
   private static final int DAMAGE = 1;
 
-  private static final Image SPRITE =
-      new Image(CurveEnemyBullet.class.getResourceAsStream("/images/Bullet/enemy_bullet.png"));
+  private static final Dimension2D SIZE = new Dimension2D(6, 12);
 
   /**
    * Constructs a curved enemy bullet with an initial velocity and curvature.
@@ -36,6 +35,16 @@ public class CurveEnemyBullet extends AbstractBullet {
    * @param curveFactor curvature strength for the trajectory
    */
   public CurveEnemyBullet(double startX, double startY, double dx, double dy, double curveFactor) {
+    reset(startX, startY, dx, dy, curveFactor);
+  }
+
+  /**
+   * Re-initializes the bullet as if it was just constructed. Used by the bullet pool.
+   *
+   * <p>The curved trajectory of a recycled bullet is reused.
+   */
+  public void reset(double startX, double startY, double dx, double dy, double curveFactor) {
+    resetBase();
 
     // Initial position
     this.x = startX;
@@ -44,7 +53,7 @@ public class CurveEnemyBullet extends AbstractBullet {
     this.originY = startY;
 
     // Bullet dimensions
-    this.size = new Dimension2D(6, 12);
+    this.size = SIZE;
 
     // Initial velocity and speed
     this.dx = dx;
@@ -55,7 +64,11 @@ public class CurveEnemyBullet extends AbstractBullet {
     this.fromPlayer = false;
 
     // Assign curved trajectory
-    this.trajectory = new CurveTrajectory(curveFactor);
+    if (trajectory instanceof CurveTrajectory curve) {
+      curve.setFactor(curveFactor);
+    } else {
+      this.trajectory = new CurveTrajectory(curveFactor);
+    }
 
     // Infinite lifetime unless destroyed or out of bounds
     this.lifeTicks = -1;
@@ -67,7 +80,7 @@ public class CurveEnemyBullet extends AbstractBullet {
    * <p>Handles movement, lifetime ticking, and boundary checks.
    */
   @Override
-  public void update(List<AbstractEntity> worldEntities) {
+  public void update(SpawnSink sink) {
     if (!aliveFlag) return;
 
     moveOnce();
@@ -86,10 +99,27 @@ public class CurveEnemyBullet extends AbstractBullet {
     aliveFlag = false;
   }
 
+  @Override
+  public void writeState(ByteBuffer out) {
+    super.writeState(out);
+    out.putDouble(((CurveTrajectory) trajectory).getFactor());
+  }
+
+  @Override
+  public void readState(ByteBuffer in) {
+    super.readState(in);
+    ((CurveTrajectory) trajectory).setFactor(in.getDouble());
+  }
+
+  @Override
+  public SpriteId getSpriteId() {
+    return SpriteId.ENEMY_BULLET;
+  }
+
   /** Renders the bullet sprite to the canvas. */
   @Override
   public void draw(GraphicsContext gc) {
     if (!aliveFlag) return;
-    gc.drawImage(SPRITE, x, y, size.getWidth(), size.getHeight());
+    gc.drawImage(getSpriteId().getImage(), renderX, renderY, size.getWidth(), size.getHeight());
   }
 }
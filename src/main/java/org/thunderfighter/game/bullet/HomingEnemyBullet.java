@@ -2,13 +2,13 @@
 
 package org.thunderfighter.game.bullet;
 
-import java.util.List;
+import java.nio.ByteBuffer;
 import javafx.geometry.Dimension2D;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import org.thunderfighter.core.abstractor.AbstractBullet;
-import org.thunderfighter.core.abstractor.AbstractEntity;
 import org.thunderfighter.core.entity.Aircraft;
+import org.thunderfighter.core.entity.SpawnSink;
+import org.thunderfighter.core.render.SpriteId;
 import org.thunderfighter.game.trajectory.HomingTrajectory;
 
 /**
@@ -20,12 +20,14 @@ import org.thunderfighter.game.trajectory.HomingTrajectory;
  * more predictable than instant-lock bullets. This design provides pressure without being unfair to
  * the player.
  */
-public class HomingEnemyBullet extends AbstractBullet {
+public final class HomingEnemyBullet extends AbstractBullet {
 
   private static final int DAMAGE = 1;
 
-  private static final Image SPRITE =
-      new Image(HomingEnemyBullet.class.getResourceAsStream("/images/Bullet/enemy_bullet.png"));
+  /** Turning strength used when none is given. */
+  private static final double DEFAULT_TURN_STRENGTH = 0.10;
+
+  private static final Dimension2D SIZE = new Dimension2D(12, 24);
 
   private int trackingTicks;
 
@@ -46,6 +48,25 @@ public class HomingEnemyBullet extends AbstractBullet {
       double initDy,
       int trackingTicks,
       HomingTrajectory.TargetProvider provider) {
+    reset(startX, startY, initDx, initDy, trackingTicks, provider, DEFAULT_TURN_STRENGTH);
+  }
+
+  /**
+   * Re-initializes the bullet as if it was just constructed. Used by the bullet pool.
+   *
+   * <p>The homing trajectory of a recycled bullet is reused.
+   *
+   * @param turnStrength turning strength of the homing trajectory
+   */
+  public void reset(
+      double startX,
+      double startY,
+      double initDx,
+      double initDy,
+      int trackingTicks,
+      HomingTrajectory.TargetProvider provider,
+      double turnStrength) {
+    resetBase();
 
     // Initial position
     this.x = startX;
@@ -54,7 +75,7 @@ public class HomingEnemyBullet extends AbstractBullet {
     this.originY = startY;
 
     // Bullet dimensions
-    this.size = new Dimension2D(12, 24);
+    this.size = SIZE;
 
     // Initial velocity and speed
     this.dx = initDx;
@@ -65,7 +86,11 @@ public class HomingEnemyBullet extends AbstractBullet {
     this.fromPlayer = false;
 
     // Assign homing trajectory
-    this.trajectory = new HomingTrajectory(provider, 0.10);
+    if (trajectory instanceof HomingTrajectory homing) {
+      homing.reset(provider, turnStrength);
+    } else {
+      this.trajectory = new HomingTrajectory(provider, turnStrength);
+    }
 
     // Ensure tracking duration is at least one tick
     this.trackingTicks = Math.max(1, trackingTicks);
@@ -80,7 +105,7 @@ public class HomingEnemyBullet extends AbstractBullet {
    * <p>Decreases remaining tracking time and removes the bullet once the tracking duration expires.
    */
   @Override
-  public void update(List<AbstractEntity> worldEntities) {
+  public void update(SpawnSink sink) {
     if (!aliveFlag) return;
 
     trackingTicks--;
@@ -105,10 +130,31 @@ public class HomingEnemyBullet extends AbstractBullet {
     aliveFlag = false;
   }
 
+  /** The target provider is not written, the reader keeps the one it was created with. */
+  @Override
+  public void writeState(ByteBuffer out) {
+    super.writeState(out);
+    out.putInt(trackingTicks);
+    out.putDouble(((HomingTrajectory) trajectory).getTurnStrength());
+  }
+
+  @Override
+  public void readState(ByteBuffer in) {
+    super.readState(in);
+    trackingTicks = in.getInt();
+    HomingTrajectory homing = (HomingTrajectory) trajectory;
+    homing.reset(homing.getProvider(), in.getDouble());
+  }
+
+  @Override
+  public SpriteId getSpriteId() {
+    return SpriteId.ENEMY_BULLET;
+  }
+
   /** Renders the bullet sprite to the canvas. */
   @Override
   public void draw(GraphicsContext gc) {
     if (!aliveFlag) return;
-    gc.drawImage(SPRITE, x, y, size.getWidth(), size.getHeight());
+    gc.drawImage(getSpriteId().getImage(), renderX, renderY, size.getWidth(), size.getHeight());
   }
 }
@@ -2,55 +2,49 @@
 
 package org.thunderfighter.game.bullet;
 
-import java.util.List;
-import javafx.geometry.BoundingBox;
-import javafx.geometry.Bounds;
+import java.nio.ByteBuffer;
 import javafx.geometry.Dimension2D;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import org.thunderfighter.core.abstractor.AbstractBullet;
-import org.thunderfighter.core.abstractor.AbstractEntity;
+import org.thunderfighter.core.collision.CollisionLayer;
 import org.thunderfighter.core.entity.Aircraft;
+import org.thunderfighter.core.entity.SpawnSink;
+import org.thunderfighter.core.render.RenderSnapshot;
+import org.thunderfighter.core.render.SpriteId;
 
 /**
  * LaserBullet
  *
  * <p>Design: - Sprite default direction is DOWN (+Y). - Laser is a beam (not a moving projectile).
- * - It grows to the canvas boundary within growTicks. - Stays for durationTicks, can be cleared
+ * - It grows to the world boundary within growTicks. - Stays for durationTicks, can be cleared
  * immediately by CLEAR item. - Execute mechanic: takeDamage(Integer.MAX_VALUE).
  */
-public class LaserBullet extends AbstractBullet implements Clearable {
-
-  // ------------------------------------------------------------
-  // Sprite (default direction: DOWN)
-  // ------------------------------------------------------------
-  private static final Image LASER_SPRITE =
-      new Image(LaserBullet.class.getResourceAsStream("/images/Bullet/laser.jpg"));
+public final class LaserBullet extends AbstractBullet implements Clearable {
 
   // ------------------------------------------------------------
   // Parameters
   // ------------------------------------------------------------
-  private final double thickness;
+  private double thickness;
   private int remainTicks;
 
   /** How many ticks for the beam to fully reach the boundary (0.5~0.7s @60TPS -> 30~42). */
-  private final int growTicks;
+  private int growTicks;
 
   /** Current age in ticks (used for growing). */
   private int ageTicks = 0;
 
   /** Normalized direction (unit vector). */
-  private final double dirX;
+  private double dirX;
 
-  private final double dirY;
+  private double dirY;
 
   /** Beam start anchor (muzzle point). */
-  private final double startX;
+  private double startX;
 
-  private final double startY;
+  private double startY;
 
   /** Cached full beam length to boundary. */
-  private double fullLength = -1; // lazy compute after canvas available
+  private double fullLength = -1; // lazy compute after world size available
 
   /**
    * Recommended ctor: - dx/dy defines direction (laser points to that direction) - durationTicks:
@@ -65,6 +59,27 @@ public class LaserBullet extends AbstractBullet implements Clearable {
       int durationTicks,
       double thickness,
       int growTicks) {
+    reset(startX, startY, dx, dy, durationTicks, thickness, growTicks);
+  }
+
+  /** Convenience ctor with default growTicks = 36 (~0.6s @60TPS). */
+  public LaserBullet(
+      double startX, double startY, double dx, double dy, int durationTicks, double thickness) {
+    this(startX, startY, dx, dy, durationTicks, thickness, 36);
+  }
+
+  /** Re-initializes the beam as if it was just constructed. Used by the bullet pool. */
+  public void reset(
+      double startX,
+      double startY,
+      double dx,
+      double dy,
+      int durationTicks,
+      double thickness,
+      int growTicks) {
+    resetBase();
+    this.ageTicks = 0;
+    this.fullLength = -1;
 
     this.startX = startX;
     this.startY = startY;
@@ -76,7 +91,9 @@ public class LaserBullet extends AbstractBullet implements Clearable {
     this.originY = startY;
 
     this.thickness = thickness;
-    this.size = new Dimension2D(thickness, thickness);
+    if (size == null || size.getWidth() != thickness) {
+      this.size = new Dimension2D(thickness, thickness);
+    }
 
     this.fromPlayer = false;
 
@@ -100,12 +117,6 @@ public class LaserBullet extends AbstractBullet implements Clearable {
     this.lifeTicks = -1; // we use remainTicks
   }
 
-  /** Convenience ctor with default growTicks = 36 (~0.6s @60TPS). */
-  public LaserBullet(
-      double startX, double startY, double dx, double dy, int durationTicks, double thickness) {
-    this(startX, startY, dx, dy, durationTicks, thickness, 36);
-  }
-
   /** Beam thickness in pixels. */
   public double getThickness() {
     return thickness;
@@ -121,7 +132,7 @@ public class LaserBullet extends AbstractBullet implements Clearable {
   }
 
   @Override
-  public void update(List<AbstractEntity> worldEntities) {
+  public void update(SpawnSink sink) {
     if (!aliveFlag) return;
 
     ageTicks++;
@@ -129,12 +140,55 @@ public class LaserBullet extends AbstractBullet implements Clearable {
     if (remainTicks <= 0) aliveFlag = false;
   }
 
+  /** The cached full length is not written, it is computed again from the anchor. */
+  @Override
+  public void writeState(ByteBuffer out) {
+    super.writeState(out);
+    out.putDouble(thickness);
+    out.putInt(remainTicks);
+    out.putInt(growTicks);
+    out.putInt(ageTicks);
+    out.putDouble(dirX);
+    out.putDouble(dirY);
+    out.putDouble(startX);
+    out.putDouble(startY);
+  }
+
+  @Override
+  public void readState(ByteBuffer in) {
+    super.readState(in);
+    thickness = in.getDouble();
+    if (size == null || size.getWidth() != thickness) {
+      size = new Dimension2D(thickness, thickness);
+    }
+    remainTicks = in.getInt();
+    growTicks = in.getInt();
+    ageTicks = in.getInt();
+    dirX = in.getDouble();
+    dirY = in.getDouble();
+    startX = in.getDouble();
+    startY = in.getDouble();
+    fullLength = -1;
+  }
+
   @Override
   public void onHit(Aircraft target) {
     target.takeDamage(target.getHp()); // execute
     // piercing by default
   }
 
+  /** Beams only hit the player. */
+  @Override
+  public int getCollisionLayer() {
+    return CollisionLayer.BEAM;
+  }
+
+  /** Beams are anchored to their start and end by their duration. */
+  @Override
+  protected boolean isCulledOutsideWorld() {
+    return false;
+  }
+
   @Override
   public void clearImmediately() {
     aliveFlag = false;
@@ -145,7 +199,7 @@ public class LaserBullet extends AbstractBullet implements Clearable {
    * approximation).
    */
   @Override
-  public Bounds getCollisionBounds() {
+  public void updateAabb() {
     double len = getCurrentLength();
     double endX = startX + dirX * len;
     double endY = startY + dirY * len;
@@ -155,7 +209,24 @@ public class LaserBullet extends AbstractBullet implements Clearable {
     double maxX = Math.max(startX, endX) + thickness / 2.0;
     double maxY = Math.max(startY, endY) + thickness / 2.0;
 
-    return new BoundingBox(minX, minY, Math.max(1, maxX - minX), Math.max(1, maxY - minY));
+    aabb.setMinMax(minX, minY, minX + Math.max(1, maxX - minX), minY + Math.max(1, maxY - minY));
+  }
+
+  /** Sprite default direction is DOWN (+Y). */
+  @Override
+  public SpriteId getSpriteId() {
+    return SpriteId.LASER;
+  }
+
+  /** The beam is captured anchored at its muzzle, rotated from DOWN to its direction. */
+  @Override
+  public void capture(RenderSnapshot snapshot) {
+    if (!aliveFlag) return;
+
+    double len = getCurrentLength();
+    if (len <= 1) return;
+
+    snapshot.addBeam(getSpriteId(), startX, startY, thickness, len, getRotationDegrees());
   }
 
   @Override
@@ -165,17 +236,14 @@ public class LaserBullet extends AbstractBullet implements Clearable {
     double len = getCurrentLength();
     if (len <= 1) return;
 
-    // rotation: sprite default DOWN (+Y)
-    // angleToDir is angle from +X; DOWN is +90deg => subtract 90deg
-    double angleToDir = Math.atan2(dirY, dirX);
-    double rotationDegrees = Math.toDegrees(angleToDir - Math.PI / 2.0);
+    double rotationDegrees = getRotationDegrees();
 
     gc.save();
     gc.translate(startX, startY);
     gc.rotate(rotationDegrees);
 
     // draw stretched laser downward (y+)
-    gc.drawImage(LASER_SPRITE, -thickness / 2.0, 0, thickness, len);
+    gc.drawImage(getSpriteId().getImage(), -thickness / 2.0, 0, thickness, len);
 
     gc.restore();
   }
@@ -183,18 +251,25 @@ public class LaserBullet extends AbstractBullet implements Clearable {
   // ------------------------------------------------------------
   // Internal
   // ------------------------------------------------------------
+  private double getRotationDegrees() {
+    // rotation: sprite default DOWN (+Y)
+    // angleToDir is angle from +X; DOWN is +90deg => subtract 90deg
+    double angleToDir = Math.atan2(dirY, dirX);
+    return Math.toDegrees(angleToDir - Math.PI / 2.0);
+  }
+
   private void ensureFullLengthComputed() {
     if (fullLength > 0) return;
 
-    // canvas comes from AbstractEntity; must be injected like aircraft
-    if (this.canvas == null) {
-      // no canvas yet, keep safe
+    // world size comes from AbstractEntity; must be injected like aircraft
+    if (this.worldSize == null) {
+      // no world yet, keep safe
       fullLength = 0;
       return;
     }
 
-    double w = canvas.getWidth();
-    double h = canvas.getHeight();
+    double w = worldSize.width();
+    double h = worldSize.height();
     if (w <= 1 || h <= 1) {
       fullLength = 0;
       return;
@@ -2,34 +2,35 @@
 
 package org.thunderfighter.game.bullet;
 
-import java.util.List;
+import java.nio.ByteBuffer;
 import javafx.geometry.Dimension2D;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import org.thunderfighter.core.abstractor.AbstractBullet;
-import org.thunderfighter.core.abstractor.AbstractEntity;
 import org.thunderfighter.core.entity.Aircraft;
+import org.thunderfighter.core.entity.SpawnSink;
+import org.thunderfighter.core.render.SpriteId;
 import org.thunderfighter.game.trajectory.StraightTrajectory;
 
 /**
  * NormalEnemyBullet
  *
- * <p>Straight enemy bullet. - Damage: 1 - Dies when out of canvas bounds (uses injected canvas) -
+ * <p>Straight enemy bullet. - Damage: 1 - Dies when out of world bounds (uses injected world size) -
  * Supports small / large size
  *
  * <p>Compatibility: - Provides a 2-parameter constructor to match existing Aircraft.doShoot(x, y) -
  * Also provides full constructor for advanced usage (boss / elite patterns)
  */
-public class NormalEnemyBullet extends AbstractBullet {
+public final class NormalEnemyBullet extends AbstractBullet {
 
   private static final int DAMAGE = 1;
 
   /** Default downward speed (per tick) for legacy constructor. */
   private static final double DEFAULT_DY = 8.0;
 
-  /** Enemy bullet sprite (red dot). */
-  private static final Image SPRITE =
-      new Image(NormalEnemyBullet.class.getResourceAsStream("/images/Bullet/enemy_bullet.png"));
+  /** Sizes: round dot style, shared by all bullets. */
+  private static final Dimension2D SMALL_SIZE = new Dimension2D(16, 16);
+
+  private static final Dimension2D LARGE_SIZE = new Dimension2D(28, 28);
 
   /** Legacy constructor: straight downward, small bullet. */
   public NormalEnemyBullet(double startX, double startY) {
@@ -39,9 +40,15 @@ public class NormalEnemyBullet extends AbstractBullet {
   /**
    * Full constructor (recommended when spawning patterns).
    *
-   * <p>NOTE: - canvasW/canvasH removed - Out-of-bounds uses injected canvas from AbstractEntity
+   * <p>NOTE: - canvasW/canvasH removed - Out-of-bounds uses injected world size from AbstractEntity
    */
   public NormalEnemyBullet(double startX, double startY, double dx, double dy, boolean large) {
+    reset(startX, startY, dx, dy, large);
+  }
+
+  /** Re-initializes the bullet as if it was just constructed. Used by the bullet pool. */
+  public void reset(double startX, double startY, double dx, double dy, boolean large) {
+    resetBase();
 
     this.x = startX;
     this.y = startY;
@@ -49,7 +56,7 @@ public class NormalEnemyBullet extends AbstractBullet {
     this.originY = startY;
 
     // Size: round dot style
-    this.size = large ? new Dimension2D(28, 28) : new Dimension2D(16, 16);
+    this.size = large ? LARGE_SIZE : SMALL_SIZE;
 
     // Velocity per tick
     this.dx = dx;
@@ -59,16 +66,28 @@ public class NormalEnemyBullet extends AbstractBullet {
     this.speed = Math.hypot(dx, dy);
 
     this.fromPlayer = false;
-    this.trajectory = new StraightTrajectory();
+    this.trajectory = StraightTrajectory.INSTANCE;
     this.lifeTicks = -1;
   }
 
   @Override
-  public void update(List<AbstractEntity> worldEntities) {
+  public void update(SpawnSink sink) {
     if (!aliveFlag) return;
     moveOnce();
     tickLife();
-    killIfOutOfBounds(); // now depends on injected canvas size
+    killIfOutOfBounds(); // now depends on injected world size
+  }
+
+  @Override
+  public void writeState(ByteBuffer out) {
+    super.writeState(out);
+    out.put((byte) (size == LARGE_SIZE ? 1 : 0));
+  }
+
+  @Override
+  public void readState(ByteBuffer in) {
+    super.readState(in);
+    size = in.get() != 0 ? LARGE_SIZE : SMALL_SIZE;
   }
 
   @Override
@@ -77,9 +96,14 @@ public class NormalEnemyBullet extends AbstractBullet {
     aliveFlag = false;
   }
 
+  @Override
+  public SpriteId getSpriteId() {
+    return SpriteId.ENEMY_BULLET;
+  }
+
   @Override
   public void draw(GraphicsContext gc) {
     if (!aliveFlag) return;
-    gc.drawImage(SPRITE, x, y, size.getWidth(), size.getHeight());
+    gc.drawImage(getSpriteId().getImage(), renderX, renderY, size.getWidth(), size.getHeight());
   }
 }
@@ -2,43 +2,52 @@
 
 package org.thunderfighter.game.bullet;
 
-import java.util.List;
 import javafx.geometry.Dimension2D;
 import javafx.scene.canvas.GraphicsContext;
-import javafx.scene.image.Image;
 import org.thunderfighter.core.abstractor.AbstractBullet;
-import org.thunderfighter.core.abstractor.AbstractEntity;
 import org.thunderfighter.core.entity.Aircraft;
+import org.thunderfighter.core.entity.SpawnSink;
+import org.thunderfighter.core.render.SpriteId;
 import org.thunderfighter.game.trajectory.StraightTrajectory;
 
 /**
  * PlayerBullet
  *
- * <p>Straight bullet fired by the player. - Damage: 1 - Dies when out of canvas bounds
+ * <p>Straight bullet fired by the player. - Damage: 1 - Dies when out of world bounds
  *
- * <p>Canvas bounds are handled via AbstractEntity.setCanvas(...)
+ * <p>World bounds are handled via AbstractEntity.setWorldSize(...)
  */
-public class PlayerBullet extends AbstractBullet {
+public final class PlayerBullet extends AbstractBullet {
 
   private static final int DAMAGE = 1;
 
   /** Default per-tick speed upward. */
   private static final double DEFAULT_DY = -12.0;
 
-  /** Player bullet sprite. */
-  private static final Image SPRITE =
-      new Image(PlayerBullet.class.getResourceAsStream("/images/Bullet/player_bullet.png"));
+  /** Bullet size (adjust to sprite if needed), shared by all player bullets. */
+  public static final Dimension2D SIZE = new Dimension2D(12, 24);
 
   /** Constructor. Compatible with existing Aircraft.doShoot(x, y) */
   public PlayerBullet(double startX, double startY) {
+    reset(startX, startY);
+  }
+
+  /**
+   * Re-initializes the bullet as if it was just constructed. Used by the bullet pool.
+   *
+   * @param startX starting x position
+   * @param startY starting y position
+   */
+  public void reset(double startX, double startY) {
+    resetBase();
+
     this.x = startX;
     this.y = startY;
 
     this.originX = startX;
     this.originY = startY;
 
-    // Bullet size (adjust to sprite if needed)
-    this.size = new Dimension2D(12, 24);
+    this.size = SIZE;
 
     // Straight upward velocity
     this.dx = 0.0;
@@ -48,14 +57,14 @@ public class PlayerBullet extends AbstractBullet {
     this.speed = Math.abs(DEFAULT_DY);
 
     this.fromPlayer = true;
-    this.trajectory = new StraightTrajectory();
+    this.trajectory = StraightTrajectory.INSTANCE;
 
     // Infinite life; removed by out-of-bounds
     this.lifeTicks = -1;
   }
 
   @Override
-  public void update(List<AbstractEntity> worldEntities) {
+  public void update(SpawnSink sink) {
     if (!aliveFlag) return;
 
     moveOnce();
@@ -69,10 +78,15 @@ public class PlayerBullet extends AbstractBullet {
     aliveFlag = false;
   }
 
+  @Override
+  public SpriteId getSpriteId() {
+    return SpriteId.PLAYER_BULLET;
+  }
+
   @Override
   public void draw(GraphicsContext gc) {
     if (!aliveFlag) return;
 
-    gc.drawImage(SPRITE, x, y, size.getWidth(), size.getHeight());
+    gc.drawImage(getSpriteId().getImage(), renderX, renderY, size.getWidth(), size.getHeight());
   }
 }
@@ -2,16 +2,18 @@
 
 package org.thunderfighter.game.bulletfactory;
 
-import javafx.scene.canvas.Canvas;
+import java.io.IOException;
+import java.io.Writer;
+import java.util.Locale;
 import org.thunderfighter.core.abstractor.AbstractBullet;
+import org.thunderfighter.core.world.WorldSize;
+import org.thunderfighter.game.bullet.BulletType;
 import org.thunderfighter.game.bullet.CurveEnemyBullet;
 import org.thunderfighter.game.bullet.HomingEnemyBullet;
 import org.thunderfighter.game.bullet.LaserBullet;
 import org.thunderfighter.game.bullet.NormalEnemyBullet;
 import org.thunderfighter.game.bullet.PlayerBullet;
-import org.thunderfighter.game.trajectory.CurveTrajectory;
 import org.thunderfighter.game.trajectory.HomingTrajectory;
-import org.thunderfighter.game.trajectory.StraightTrajectory;
 
 /**
  * BulletFactory
@@ -19,7 +21,10 @@ import org.thunderfighter.game.trajectory.StraightTrajectory;
  * <p>Centralized factory responsible for creating all bullet instances.
  *
  * <p>Responsibilities: - Encapsulates bullet construction logic - Assigns appropriate trajectories
- * - Injects Canvas dependency into bullets
+ * - Injects the world size into bullets - Recycles dead bullets through one {@link BulletPool}
+ * per bullet type
+ *
+ * <p>The pools are shared by every world of the process, see {@link #getPool(BulletType)}.
  *
  * <p>This class belongs to the game layer and prevents bullet creation logic from being scattered
  * across entities.
@@ -29,19 +34,95 @@ public final class BulletFactory {
   /** Utility class: prevent instantiation */
   private BulletFactory() {}
 
+  // -------------------------------------------------
+  // Pools
+  // -------------------------------------------------
+
+  private static final BulletPool<PlayerBullet> PLAYER_POOL =
+      new BulletPool<>(() -> new PlayerBullet(0, 0));
+
+  private static final BulletPool<NormalEnemyBullet> ENEMY_POOL =
+      new BulletPool<>(() -> new NormalEnemyBullet(0, 0));
+
+  private static final BulletPool<CurveEnemyBullet> CURVE_POOL =
+      new BulletPool<>(() -> new CurveEnemyBullet(0, 0, 0, 0, 0));
+
+  private static final BulletPool<HomingEnemyBullet> HOMING_POOL =
+      new BulletPool<>(() -> new HomingEnemyBullet(0, 0, 0, 0, 1, null));
+
+  private static final BulletPool<LaserBullet> LASER_POOL =
+      new BulletPool<>(() -> new LaserBullet(0, 0, 0, 1, 1, 1));
+
+  /**
+   * Gets the pool of a bullet type, e.g. to read its hit/miss counters.
+   *
+   * <p>The pools are process-wide: every {@code World} of the process, e.g. the ones replayed in
+   * parallel by {@code ReplayVerifier}, obtains from and releases to the same pools, so their
+   * counters add up the bullets of all worlds.
+   *
+   * @param type bullet type
+   * @return the pool serving that type
+   */
+  public static BulletPool<? extends AbstractBullet> getPool(BulletType type) {
+    return switch (type) {
+      case PLAYER_NORMAL -> PLAYER_POOL;
+      case ENEMY_NORMAL -> ENEMY_POOL;
+      case ENEMY_CURVE -> CURVE_POOL;
+      case ENEMY_HOMING -> HOMING_POOL;
+      case ENEMY_LASER -> LASER_POOL;
+    };
+  }
+
+  /**
+   * Writes the counters of every pool as CSV, one row per bullet type.
+   *
+   * @param out destination, not closed
+   * @throws IOException if writing fails
+   */
+  public static void writeCsv(Writer out) throws IOException {
+    out.write("pool,hits,misses,idle\n");
+    for (BulletType type : BulletType.values()) {
+      BulletPool<? extends AbstractBullet> pool = getPool(type);
+      out.write(
+          String.format(
+              Locale.ROOT,
+              "%s,%d,%d,%d\n",
+              type.name(),
+              pool.getHits(),
+              pool.getMisses(),
+              pool.getIdleCount()));
+    }
+  }
+
+  /**
+   * Returns a dead bullet to its pool so that a later create call can reissue it.
+   *
+   * <p>Must only be called once the bullet has been removed from the world.
+   */
+  public static void recycle(AbstractBullet bullet) {
+    switch (bullet) {
+      case PlayerBullet b -> PLAYER_POOL.release(b);
+      case NormalEnemyBullet b -> ENEMY_POOL.release(b);
+      case CurveEnemyBullet b -> CURVE_POOL.release(b);
+      case HomingEnemyBullet b -> HOMING_POOL.release(b);
+      case LaserBullet b -> LASER_POOL.release(b);
+      default -> {}
+    }
+  }
+
   // -------------------------------------------------
   // Internal helper
   // -------------------------------------------------
 
   /**
-   * Injects Canvas into a bullet instance if available.
+   * Injects the world size into a bullet instance if available.
    *
-   * <p>This avoids forcing every bullet constructor to depend on Canvas and keeps rendering
+   * <p>This avoids forcing every bullet constructor to depend on the world and keeps boundary
    * concerns centralized.
    */
-  private static <T extends AbstractBullet> T injectCanvas(Canvas canvas, T bullet) {
-    if (canvas != null) {
-      bullet.setCanvas(canvas);
+  private static <T extends AbstractBullet> T injectWorldSize(WorldSize worldSize, T bullet) {
+    if (worldSize != null) {
+      bullet.setWorldSize(worldSize);
     }
     return bullet;
   }
@@ -51,11 +132,10 @@ public final class BulletFactory {
   // -------------------------------------------------
 
   /** Creates a standard straight-moving player bullet. */
-  public static PlayerBullet createPlayerBullet(Canvas canvas, double x, double y) {
-    PlayerBullet bullet = new PlayerBullet(x, y);
-    injectCanvas(canvas, bullet);
-    bullet.setTrajectory(new StraightTrajectory());
-    return bullet;
+  public static PlayerBullet createPlayerBullet(WorldSize worldSize, double x, double y) {
+    PlayerBullet bullet = PLAYER_POOL.obtain();
+    bullet.reset(x, y);
+    return injectWorldSize(worldSize, bullet);
   }
 
   // -------------------------------------------------
@@ -68,22 +148,20 @@ public final class BulletFactory {
    * @param large whether to use large bullet visuals
    */
   public static NormalEnemyBullet createEnemyBullet(
-      Canvas canvas, double x, double y, double dx, double dy, boolean large) {
+      WorldSize worldSize, double x, double y, double dx, double dy, boolean large) {
 
-    NormalEnemyBullet bullet = new NormalEnemyBullet(x, y, dx, dy, large);
-    injectCanvas(canvas, bullet);
-    bullet.setTrajectory(new StraightTrajectory());
-    return bullet;
+    NormalEnemyBullet bullet = ENEMY_POOL.obtain();
+    bullet.reset(x, y, dx, dy, large);
+    return injectWorldSize(worldSize, bullet);
   }
 
   /** Creates an enemy bullet that follows a curved trajectory. */
   public static CurveEnemyBullet createCurvedEnemyBullet(
-      Canvas canvas, double x, double y, double dx, double dy, double curveFactor) {
+      WorldSize worldSize, double x, double y, double dx, double dy, double curveFactor) {
 
-    CurveEnemyBullet bullet = new CurveEnemyBullet(x, y, dx, dy, curveFactor);
-    injectCanvas(canvas, bullet);
-    bullet.setTrajectory(new CurveTrajectory(curveFactor));
-    return bullet;
+    CurveEnemyBullet bullet = CURVE_POOL.obtain();
+    bullet.reset(x, y, dx, dy, curveFactor);
+    return injectWorldSize(worldSize, bullet);
   }
 
   /**
@@ -92,7 +170,7 @@ public final class BulletFactory {
    * <p>The bullet gradually turns toward the target for a limited number of ticks before expiring.
    */
   public static HomingEnemyBullet createHomingBullet(
-      Canvas canvas,
+      WorldSize worldSize,
       double x,
       double y,
       double dx,
@@ -100,11 +178,9 @@ public final class BulletFactory {
       int trackingTicks,
       HomingTrajectory.TargetProvider provider) {
 
-    HomingEnemyBullet bullet = new HomingEnemyBullet(x, y, dx, dy, trackingTicks, provider);
-
-    injectCanvas(canvas, bullet);
-    bullet.setTrajectory(new HomingTrajectory(provider, 0.12));
-    return bullet;
+    HomingEnemyBullet bullet = HOMING_POOL.obtain();
+    bullet.reset(x, y, dx, dy, trackingTicks, provider, 0.12);
+    return injectWorldSize(worldSize, bullet);
   }
 
   // -------------------------------------------------
@@ -118,7 +194,7 @@ public final class BulletFactory {
    * a trajectory.
    */
   public static LaserBullet createLaserBullet(
-      Canvas canvas,
+      WorldSize worldSize,
       double x,
       double y,
       double dx,
@@ -126,10 +202,8 @@ public final class BulletFactory {
       int durationTicks,
       double thickness) {
 
-    LaserBullet bullet = new LaserBullet(x, y, dx, dy, durationTicks, thickness);
-
-    injectCanvas(canvas, bullet);
-    // bullet.setTrajectory(new StraightTrajectory());
-    return bullet;
+    LaserBullet bullet = LASER_POOL.obtain();
+    bullet.reset(x, y, dx, dy, durationTicks, thickness, 36);
+    return injectWorldSize(worldSize, bullet);
   }
 }
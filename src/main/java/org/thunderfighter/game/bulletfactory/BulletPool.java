@@ -0,0 +1,86 @@
+// src/main/java/org/thunderfighter/game/bulletfactory/BulletPool.java
+
+package org.thunderfighter.game.bulletfactory;
+
+import java.util.ArrayDeque;
+import java.util.function.Supplier;
+import org.thunderfighter.core.abstractor.AbstractBullet;
+
+/**
+ * BulletPool
+ *
+ * <p>Free list of dead bullets of one concrete type. {@link BulletFactory} obtains instances from
+ * here and resets them, and the game returns bullets once they are removed from the world.
+ *
+ * <p>Counters:
+ *
+ * <ul>
+ *   <li>hits: requests served by a recycled instance
+ *   <li>misses: requests that had to construct a new instance
+ * </ul>
+ *
+ * <p>Thread-safe: enemies may shoot from several threads when the world updates in parallel.
+ *
+ * @param <T> concrete bullet type
+ */
+public final class BulletPool<T extends AbstractBullet> {
+
+  /** Upper bound of idle instances kept, so a burst does not pin memory forever. */
+  private static final int MAX_IDLE = 4096;
+
+  private final Supplier<T> constructor;
+  private final ArrayDeque<T> idle = new ArrayDeque<>();
+
+  private long hits;
+  private long misses;
+
+  /**
+   * @param constructor creates a new instance on a miss; the caller resets it afterwards
+   */
+  BulletPool(Supplier<T> constructor) {
+    this.constructor = constructor;
+  }
+
+  /**
+   * Takes an idle instance, or constructs one if the pool is empty.
+   *
+   * <p>The returned bullet is in an unspecified state and must be reset by the caller.
+   */
+  synchronized T obtain() {
+    T bullet = idle.pollLast();
+    if (bullet == null) {
+      misses++;
+      return constructor.get();
+    }
+    hits++;
+    return bullet;
+  }
+
+  /** Returns a dead bullet to the pool. It must no longer be referenced by the world. */
+  synchronized void release(T bullet) {
+    if (idle.size() < MAX_IDLE) {
+      idle.addLast(bullet);
+    }
+  }
+
+  /** Number of requests served by a recycled instance. */
+  public synchronized long getHits() {
+    return hits;
+  }
+
+  /** Number of requests that constructed a new instance. */
+  public synchronized long getMisses() {
+    return misses;
+  }
+
+  /** Number of idle instances ready to be reissued. */
+  public synchronized int getIdleCount() {
+    return idle.size();
+  }
+
+  /** Clears the counters, keeping idle instances. */
+  public synchronized void resetCounters() {
+    hits = 0;
+    misses = 0;
+  }
+}
@@ -0,0 +1,468 @@
+// src/main/java/org/thunderfighter/game/replay/Replay.java
+
+package org.thunderfighter.game.replay;
+
+import java.io.BufferedOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.zip.DataFormatException;
+import java.util.zip.Inflater;
+import org.thunderfighter.core.world.WorldSize;
+import org.thunderfighter.game.World;
+import org.thunderfighter.utils.Constant;
+import org.thunderfighter.utils.Constant.GAME_STATE;
+
+/**
+ * One recorded round: its seed, the player input of every tick, keyframes of the world and the
+ * result it led to.
+ *
+ * <p>The simulation only depends on its state and on the player input, so {@link #seek(long)}
+ * restores the last keyframe before a tick and simulates the few ticks from there, headless. A
+ * recording which starts at a restored state, instead of at the reset of a round, has a keyframe at
+ * its first tick. A replay recorded with another {@code Constant.TPS} is rejected, as every
+ * cooldown and speed is counted in ticks.
+ *
+ * <p>File format, big-endian:
+ *
+ * <pre>
+ * header     int magic "TFRP", short version, int ticks per second, long seed,
+ *            double world width, double world height, long first tick, int number of ticks,
+ *            int final score, byte outcome ({@code GAME_STATE.ordinal()})
+ * input      runs of equal input masks until every tick is covered, each a byte holding the bits
+ *            which changed since the previous run (XOR, the first run against 0) and the run
+ *            length as an unsigned LEB128 varint
+ * keyframes  deflated {@link World#writeState(ByteBuffer)} data, back to back
+ * index      int count, then per keyframe: long tick, long offset, int deflated length,
+ *            int inflated length
+ * trailer    long offset of the index, int magic "TFRP"
+ * </pre>
+ *
+ * <p>A ten-minute round takes a few kilobytes of input, which is read as a whole, and one keyframe
+ * per {@code Constant.REPLAY_KEYFRAME_TICKS}, which is only inflated when seeked to.
+ */
+public final class Replay {
+
+  private static final int MAGIC = 0x54465250;
+  private static final short VERSION = 3;
+
+  // Size of the trailer, long offset and int magic.
+  private static final int TRAILER_BYTES = Long.BYTES + Integer.BYTES;
+
+  /** Extension of replay files. */
+  public static final String EXTENSION = ".tfr";
+
+  /**
+   * Compressed world state before a tick.
+   *
+   * @param tick Ticks run in the round when the state was written.
+   * @param data Deflated state.
+   * @param size Inflated size in bytes.
+   */
+  public record Keyframe(long tick, byte[] data, int size) {}
+
+  private final long seed;
+  private final WorldSize worldSize;
+  private final long firstTick;
+  private final byte[] inputs;
+  private final List<Keyframe> keyframes;
+  private final int score;
+  private final GAME_STATE outcome;
+
+  /**
+   * Constructor of {@code Replay}.
+   *
+   * @param seed Seed the round was started with.
+   * @param worldSize Size of the world.
+   * @param firstTick First recorded tick, {@code 0} unless the recording starts at a keyframe.
+   * @param inputs Input mask of each tick from {@code firstTick} on, not copied.
+   * @param keyframes Keyframes by increasing tick, one at {@code firstTick} if it is not {@code 0}.
+   * @param score Score at the end of the recording.
+   * @param outcome Outcome at the end of the recording.
+   */
+  public Replay(
+      final long seed,
+      final WorldSize worldSize,
+      final long firstTick,
+      final byte[] inputs,
+      final List<Keyframe> keyframes,
+      final int score,
+      final GAME_STATE outcome) {
+    this.seed = seed;
+    this.worldSize = worldSize;
+    this.firstTick = firstTick;
+    this.inputs = inputs;
+    this.keyframes = keyframes;
+    this.score = score;
+    this.outcome = outcome;
+  }
+
+  public long getSeed() {
+    return seed;
+  }
+
+  public WorldSize getWorldSize() {
+    return worldSize;
+  }
+
+  public long getFirstTick() {
+    return firstTick;
+  }
+
+  /**
+   * Get the tick the recording ends at.
+   *
+   * @return Ticks run in the round at the end of the recording.
+   */
+  public long getLastTick() {
+    return firstTick + inputs.length;
+  }
+
+  /**
+   * Get the input mask of a tick.
+   *
+   * @param tick Tick, from {@link #getFirstTick()} to before {@link #getLastTick()}.
+   * @return Combination of the {@code AbstractPlayerAircraft.INPUT_*} bits.
+   */
+  public int getInput(final long tick) {
+    return inputs[(int) (tick - firstTick)];
+  }
+
+  public List<Keyframe> getKeyframes() {
+    return keyframes;
+  }
+
+  public int getScore() {
+    return score;
+  }
+
+  public GAME_STATE getOutcome() {
+    return outcome;
+  }
+
+  /**
+   * Bring a new headless world to the state before a tick.
+   *
+   * <p>The last keyframe at or before the tick is restored, then the remaining ticks are simulated
+   * with the recorded input. The simulation stops early if the round is decided before the tick.
+   *
+   * @param tick Tick, from {@link #getFirstTick()} to {@link #getLastTick()}.
+   * @return World which ran {@code tick} ticks, recording disabled.
+   * @throws IllegalArgumentException If the tick is outside of the recording.
+   * @throws IllegalStateException If a keyframe is corrupt.
+   */
+  public World seek(final long tick) {
+    if (tick < firstTick || tick > getLastTick()) {
+      throw new IllegalArgumentException(
+          "Tick " + tick + " outside of " + firstTick + ".." + getLastTick());
+    }
+    final World world = newWorld();
+    final Keyframe keyframe = findKeyframe(tick);
+    if (keyframe != null) {
+      world.readState(inflate(keyframe));
+    }
+    while (world.getTickCount() < tick && world.getOutcome() == GAME_STATE.RUNNING) {
+      world.getPlayerAircraft().setInput(getInput(world.getTickCount()));
+      world.tick();
+    }
+    return world;
+  }
+
+  /**
+   * Bring a new headless world to the start of the recording, to {@link #run(World)} it.
+   *
+   * @return World before the first recorded tick, recording disabled.
+   * @throws IllegalStateException If the first keyframe is corrupt.
+   */
+  public World start() {
+    return seek(firstTick);
+  }
+
+  /**
+   * Run a world from the start of the recording to its end, and check it against the recording.
+   *
+   * <p>The state of the world is compared with every keyframe it passes, so a divergence is found
+   * within {@code Constant.REPLAY_KEYFRAME_TICKS} of where it started, not only by its result.
+   *
+   * @param world World from {@link #start()}.
+   * @return First tick the world diverged at: the tick of a keyframe its state differs from, or the
+   *     tick it stopped at if the round was decided early or with another score or outcome. {@code
+   *     -1} if it matches the recording.
+   * @throws IllegalStateException If a keyframe is corrupt.
+   */
+  public long run(final World world) {
+    ByteBuffer state = ByteBuffer.allocate(64 * 1024);
+    for (final Keyframe keyframe : keyframes) {
+      if (keyframe.tick() <= world.getTickCount()) {
+        continue;
+      }
+      while (world.getTickCount() < keyframe.tick() && world.getOutcome() == GAME_STATE.RUNNING) {
+        world.getPlayerAircraft().setInput(getInput(world.getTickCount()));
+        world.tick();
+      }
+      if (world.getTickCount() < keyframe.tick()) {
+        return world.getTickCount();
+      }
+      while (true) {
+        try {
+          state.clear();
+          world.writeState(state);
+          break;
+        } catch (final BufferOverflowException e) {
+          state = ByteBuffer.allocate(state.capacity() * 2);
+        }
+      }
+      if (!state.flip().equals(inflate(keyframe))) {
+        return keyframe.tick();
+      }
+    }
+
+    final long last = getLastTick();
+    while (world.getTickCount() < last && world.getOutcome() == GAME_STATE.RUNNING) {
+      world.getPlayerAircraft().setInput(getInput(world.getTickCount()));
+      world.tick();
+    }
+    final boolean matches =
+        world.getTickCount() == last
+            && world.getScoreManager().getScore() == score
+            && world.getOutcome() == outcome;
+    return matches ? -1 : world.getTickCount();
+  }
+
+  /**
+   * Run the recording to its end in a new headless world.
+   *
+   * @return World after the last tick, e.g. to read its metrics.
+   */
+  public World simulate() {
+    final World world = start();
+    run(world);
+    return world;
+  }
+
+  /**
+   * Run the recording and compare it with the recorded keyframes and result.
+   *
+   * @return {@code true} if the simulation did not diverge, see {@link #run(World)}.
+   */
+  public boolean verify() {
+    return run(start()) < 0;
+  }
+
+  /**
+   * Write the replay.
+   *
+   * @param out Stream, not closed.
+   * @throws IOException If writing failed.
+   */
+  public void write(final OutputStream out) throws IOException {
+    final DataOutputStream data = new DataOutputStream(new BufferedOutputStream(out));
+    data.writeInt(MAGIC);
+    data.writeShort(VERSION);
+    data.writeInt(Constant.TPS);
+    data.writeLong(seed);
+    data.writeDouble(worldSize.width());
+    data.writeDouble(worldSize.height());
+    data.writeLong(firstTick);
+    data.writeInt(inputs.length);
+    data.writeInt(score);
+    data.writeByte(outcome.ordinal());
+
+    int previous = 0;
+    for (int i = 0; i < inputs.length; ) {
+      final int input = inputs[i];
+      int run = 1;
+      while (i + run < inputs.length && inputs[i + run] == input) {
+        run++;
+      }
+      data.writeByte(input ^ previous);
+      writeVarint(data, run);
+      previous = input;
+      i += run;
+    }
+
+    final long[] offsets = new long[keyframes.size()];
+    for (int i = 0; i < keyframes.size(); i++) {
+      offsets[i] = data.size();
+      data.write(keyframes.get(i).data());
+    }
+
+    final long index = data.size();
+    data.writeInt(keyframes.size());
+    for (int i = 0; i < keyframes.size(); i++) {
+      final Keyframe keyframe = keyframes.get(i);
+      data.writeLong(keyframe.tick());
+      data.writeLong(offsets[i]);
+      data.writeInt(keyframe.data().length);
+      data.writeInt(keyframe.size());
+    }
+    data.writeLong(index);
+    data.writeInt(MAGIC);
+    data.flush();
+  }
+
+  /**
+   * Write the replay to a file, replacing it if it exists.
+   *
+   * @param file File to write.
+   * @throws IOException If writing failed.
+   */
+  public void write(final Path file) throws IOException {
+    try (OutputStream out = Files.newOutputStream(file)) {
+      write(out);
+    }
+  }
+
+  /**
+   * Read a replay.
+   *
+   * @param in Stream, read to its end and not closed.
+   * @return Replay.
+   * @throws IOException If reading failed, or the data is not a replay of this version.
+   */
+  public static Replay read(final InputStream in) throws IOException {
+    final ByteBuffer data = ByteBuffer.wrap(in.readAllBytes());
+    try {
+      return read(data);
+    } catch (final BufferUnderflowException | IndexOutOfBoundsException e) {
+      throw new IOException("Truncated replay", e);
+    }
+  }
+
+  /**
+   * Read a replay from a file.
+   *
+   * @param file File to read.
+   * @return Replay.
+   * @throws IOException If reading failed, or the file is not a replay of this version.
+   */
+  public static Replay read(final Path file) throws IOException {
+    try (InputStream in = Files.newInputStream(file)) {
+      return read(in);
+    }
+  }
+
+  private static Replay read(final ByteBuffer data) throws IOException {
+    if (data.getInt() != MAGIC) {
+      throw new IOException("Not a replay");
+    }
+    final short version = data.getShort();
+    if (version != VERSION) {
+      throw new IOException("Unsupported replay version " + version);
+    }
+    final int tps = data.getInt();
+    if (tps != Constant.TPS) {
+      throw new IOException("Replay recorded at " + tps + " ticks per second");
+    }
+    final long seed = data.getLong();
+    final WorldSize worldSize = new WorldSize(data.getDouble(), data.getDouble());
+    final long firstTick = data.getLong();
+    final int ticks = data.getInt();
+    final int score = data.getInt();
+    final GAME_STATE[] states = GAME_STATE.values();
+    final int outcome = Byte.toUnsignedInt(data.get());
+    if (ticks < 0 || outcome >= states.length) {
+      throw new IOException("Invalid replay header");
+    }
+
+    final byte[] inputs = new byte[ticks];
+    int input = 0;
+    for (int i = 0; i < ticks; ) {
+      input ^= Byte.toUnsignedInt(data.get());
+      final int run = readVarint(data);
+      if (run <= 0 || run > ticks - i) {
+        throw new IOException("Invalid input run at tick " + (firstTick + i));
+      }
+      for (int end = i + run; i < end; i++) {
+        inputs[i] = (byte) input;
+      }
+    }
+
+    data.position(data.limit() - TRAILER_BYTES);
+    final long index = data.getLong();
+    if (data.getInt() != MAGIC) {
+      throw new IOException("Replay without index");
+    }
+    data.position(Math.toIntExact(index));
+    final int count = data.getInt();
+    final List<Keyframe> keyframes = new ArrayList<>(count);
+    for (int i = 0; i < count; i++) {
+      final long tick = data.getLong();
+      final int offset = Math.toIntExact(data.getLong());
+      final byte[] deflated = new byte[data.getInt()];
+      final int size = data.getInt();
+      data.get(offset, deflated);
+      keyframes.add(new Keyframe(tick, deflated, size));
+    }
+    return new Replay(seed, worldSize, firstTick, inputs, keyframes, score, states[outcome]);
+  }
+
+  /** Create a headless world at the seed of the recording. */
+  private World newWorld() {
+    final World world = new World(worldSize);
+    world.setRecording(false);
+    world.reset(seed);
+    return world;
+  }
+
+  /** Get the last keyframe at or before a tick, or {@code null} to start from the seed. */
+  private Keyframe findKeyframe(final long tick) {
+    int low = 0;
+    int high = keyframes.size() - 1;
+    Keyframe found = null;
+    while (low <= high) {
+      final int mid = (low + high) >>> 1;
+      if (keyframes.get(mid).tick() <= tick) {
+        found = keyframes.get(mid);
+        low = mid + 1;
+      } else {
+        high = mid - 1;
+      }
+    }
+    return found;
+  }
+
+  private static ByteBuffer inflate(final Keyframe keyframe) {
+    final Inflater inflater = new Inflater();
+    try {
+      final byte[] state = new byte[keyframe.size()];
+      inflater.setInput(keyframe.data());
+      if (inflater.inflate(state) != state.length || !inflater.finished()) {
+        throw new IllegalStateException("Corrupt keyframe at tick " + keyframe.tick());
+      }
+      return ByteBuffer.wrap(state);
+    } catch (final DataFormatException e) {
+      throw new IllegalStateException("Corrupt keyframe at tick " + keyframe.tick(), e);
+    } finally {
+      inflater.end();
+    }
+  }
+
+  private static void writeVarint(final DataOutputStream out, int value) throws IOException {
+    while ((value & ~0x7F) != 0) {
+      out.writeByte((value & 0x7F) | 0x80);
+      value >>>= 7;
+    }
+    out.writeByte(value);
+  }
+
+  private static int readVarint(final ByteBuffer in) throws IOException {
+    int value = 0;
+    for (int shift = 0; shift < 32; shift += 7) {
+      final int b = in.get();
+      value |= (b & 0x7F) << shift;
+      if ((b & 0x80) == 0) {
+        return value;
+      }
+    }
+    throw new IOException("Invalid varint");
+  }
+}
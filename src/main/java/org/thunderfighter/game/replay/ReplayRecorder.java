@@ -0,0 +1,171 @@
+// src/main/java/org/thunderfighter/game/replay/ReplayRecorder.java
+
+package org.thunderfighter.game.replay;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.zip.Deflater;
+import org.thunderfighter.game.World;
+import org.thunderfighter.utils.Constant;
+import org.thunderfighter.utils.Constant.GAME_STATE;
+
+/**
+ * Records the player input of each tick of a round, one byte per tick, and a compressed keyframe
+ * of the world every {@code Constant.REPLAY_KEYFRAME_TICKS} ticks.
+ *
+ * <p>A recording starts at the reset of a round, or at a restored state, which is then kept as the
+ * first keyframe. The input buffer grows but is never shrunk, so recording input does not allocate
+ * once the longest round was seen.
+ */
+public final class ReplayRecorder {
+
+  private boolean enabled = true;
+
+  private long seed;
+  private long firstTick;
+
+  // Sized for a minute, doubled when full.
+  private byte[] inputs = new byte[60 * Constant.TPS];
+  private int ticks = 0;
+
+  private final List<Replay.Keyframe> keyframes = new ArrayList<>();
+
+  // Scratch buffers of keyframes, grown when a state does not fit.
+  private ByteBuffer state = ByteBuffer.allocate(64 * 1024);
+  private byte[] compressed = new byte[16 * 1024];
+  private final Deflater deflater = new Deflater(Deflater.BEST_SPEED);
+
+  // Stores the keyframe of a restored state without compressing it, which takes a few milliseconds
+  // for a large world, so that restoring stays fast. Restarted recordings have one such keyframe.
+  private final Deflater storer = new Deflater(Deflater.NO_COMPRESSION);
+
+  /**
+   * Enable or disable recording. A disabled recorder ignores every call but {@link #toReplay}.
+   *
+   * @param enabled Whether to record.
+   */
+  public void setEnabled(final boolean enabled) {
+    this.enabled = enabled;
+  }
+
+  /**
+   * Start recording a new round, dropping the previous one.
+   *
+   * @param seed Seed the round is started with.
+   */
+  public void start(final long seed) {
+    this.seed = seed;
+    firstTick = 0;
+    ticks = 0;
+    keyframes.clear();
+  }
+
+  /**
+   * Start recording from the current state of a world, e.g. after it was restored.
+   *
+   * @param world World between two ticks.
+   */
+  public void restart(final World world) {
+    start(world.getSeed());
+    if (!enabled) {
+      return;
+    }
+    firstTick = world.getTickCount();
+    keyframe(world, storer);
+  }
+
+  /**
+   * Record the input of the next tick, and a keyframe before it when one is due.
+   *
+   * @param world World before the tick.
+   * @param input Combination of the {@code AbstractPlayerAircraft.INPUT_*} bits.
+   */
+  public void record(final World world, final int input) {
+    if (!enabled) {
+      return;
+    }
+    final long tick = world.getTickCount();
+    if (tick > firstTick && tick % Constant.REPLAY_KEYFRAME_TICKS == 0) {
+      keyframe(world, deflater);
+    }
+    if (ticks == inputs.length) {
+      inputs = Arrays.copyOf(inputs, ticks * 2);
+    }
+    inputs[ticks++] = (byte) input;
+  }
+
+  /**
+   * Drop what was recorded from a tick on, as the world went back to the state it had then.
+   *
+   * @param tick Tick the world is at.
+   * @return Whether the tick is part of the recording, otherwise nothing is dropped.
+   */
+  public boolean truncate(final long tick) {
+    if (!enabled || tick < firstTick || tick > firstTick + ticks) {
+      return false;
+    }
+    ticks = (int) (tick - firstTick);
+    // Keyframes from the tick on are taken again, but the one a restarted recording starts at.
+    while (!keyframes.isEmpty()) {
+      final long last = keyframes.get(keyframes.size() - 1).tick();
+      if (last < tick || last == firstTick) {
+        break;
+      }
+      keyframes.remove(keyframes.size() - 1);
+    }
+    return true;
+  }
+
+  public int getTicks() {
+    return ticks;
+  }
+
+  /**
+   * Create a replay of the ticks recorded so far.
+   *
+   * @param world Recorded world.
+   * @param score Current score.
+   * @param outcome Current outcome.
+   * @return Replay, independent of later recording.
+   */
+  public Replay toReplay(final World world, final int score, final GAME_STATE outcome) {
+    return new Replay(
+        seed,
+        world.getWorldSize(),
+        firstTick,
+        Arrays.copyOf(inputs, ticks),
+        List.copyOf(keyframes),
+        score,
+        outcome);
+  }
+
+  /** Write the state of the world and keep it deflated. */
+  private void keyframe(final World world, final Deflater compressor) {
+    while (true) {
+      try {
+        state.clear();
+        world.writeState(state);
+        break;
+      } catch (final BufferOverflowException e) {
+        state = ByteBuffer.allocate(state.capacity() * 2);
+      }
+    }
+    state.flip();
+
+    compressor.reset();
+    compressor.setInput(state);
+    compressor.finish();
+    int length = 0;
+    while (!compressor.finished()) {
+      if (length == compressed.length) {
+        compressed = Arrays.copyOf(compressed, length * 2);
+      }
+      length += compressor.deflate(compressed, length, compressed.length - length);
+    }
+    final byte[] data = Arrays.copyOf(compressed, length);
+    keyframes.add(new Replay.Keyframe(world.getTickCount(), data, state.limit()));
+  }
+}
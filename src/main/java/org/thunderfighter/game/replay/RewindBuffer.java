@@ -0,0 +1,154 @@
+// src/main/java/org/thunderfighter/game/replay/RewindBuffer.java
+
+package org.thunderfighter.game.replay;
+
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.util.Arrays;
+import org.thunderfighter.game.World;
+
+/**
+ * Ring of the recent states and inputs of a world, to go back in the current round.
+ *
+ * <p>Every {@code interval} ticks the state of the world overwrites the oldest snapshot, and the
+ * input of every tick overwrites the oldest input, so the buffer always covers the last {@code
+ * window} ticks. {@link World#rewind(long)} restores the last snapshot before the tick to go back
+ * to and simulates the few ticks from there with the recorded input.
+ *
+ * <p>Snapshots and inputs are allocated once. A snapshot only grows when a state does not fit, so
+ * recording does not allocate once the largest world was seen, and the memory is bounded by the
+ * number of snapshots times the largest state.
+ */
+public final class RewindBuffer {
+
+  // Ticks between two snapshots.
+  private final int interval;
+
+  // State of each snapshot from position 0 to the limit, and its tick, `-1` if empty.
+  private final ByteBuffer[] states;
+  private final long[] ticks;
+
+  // Input of each tick of the window, by tick modulo the length.
+  private final byte[] inputs;
+
+  // Ticks recorded since the last clear, from `start` to before `end`.
+  private long start = 0;
+  private long end = 0;
+
+  /**
+   * Constructor of {@code RewindBuffer}.
+   *
+   * @param window Ticks to keep.
+   * @param interval Ticks between two snapshots, at most this many are simulated per rewind.
+   */
+  public RewindBuffer(final int window, final int interval) {
+    this.interval = interval;
+    final int count = window / interval + 1;
+    states = new ByteBuffer[count];
+    for (int i = 0; i < count; i++) {
+      states[i] = ByteBuffer.allocate(16 * 1024);
+    }
+    ticks = new long[count];
+    inputs = new byte[count * interval];
+    clear();
+  }
+
+  /** Drop every snapshot and input, e.g. when the world was reset or restored. */
+  public void clear() {
+    Arrays.fill(ticks, -1);
+    start = end = 0;
+  }
+
+  /**
+   * Record the input of the next tick, and a snapshot before it when one is due.
+   *
+   * @param world World before the tick.
+   * @param input Combination of the {@code AbstractPlayerAircraft.INPUT_*} bits.
+   */
+  public void record(final World world, final int input) {
+    final long tick = world.getTickCount();
+    if (start == end) {
+      start = end = tick;
+    }
+    if (tick % interval == 0) {
+      final int slot = (int) ((tick / interval) % states.length);
+      while (true) {
+        try {
+          states[slot].clear();
+          world.writeState(states[slot]);
+          break;
+        } catch (final BufferOverflowException e) {
+          states[slot] = ByteBuffer.allocate(states[slot].capacity() * 2);
+        }
+      }
+      states[slot].flip();
+      ticks[slot] = tick;
+    }
+    inputs[(int) (tick % inputs.length)] = (byte) input;
+    end = tick + 1;
+  }
+
+  /**
+   * Find the snapshot to go back to a tick from.
+   *
+   * @param tick Tick to go back to.
+   * @return Slot of the last snapshot at or before the tick, or of the oldest snapshot if the tick
+   *     is out of the window. {@code -1} if there is none.
+   */
+  public int find(final long tick) {
+    // Older snapshots are kept, but the input after them was overwritten.
+    final long oldest = Math.max(start, end - inputs.length);
+    int found = -1;
+    int first = -1;
+    for (int i = 0; i < ticks.length; i++) {
+      if (ticks[i] < oldest || ticks[i] >= end) {
+        continue;
+      }
+      if (ticks[i] <= tick && (found < 0 || ticks[i] > ticks[found])) {
+        found = i;
+      }
+      if (first < 0 || ticks[i] < ticks[first]) {
+        first = i;
+      }
+    }
+    return found >= 0 ? found : first;
+  }
+
+  public long getTick(final int slot) {
+    return ticks[slot];
+  }
+
+  /**
+   * Get the state of a snapshot.
+   *
+   * @param slot Slot from {@link #find(long)}.
+   * @return State, positioned at its start.
+   */
+  public ByteBuffer getState(final int slot) {
+    return states[slot].rewind();
+  }
+
+  /**
+   * Get the recorded input of a tick.
+   *
+   * @param tick Tick within the window.
+   * @return Combination of the {@code AbstractPlayerAircraft.INPUT_*} bits.
+   */
+  public int getInput(final long tick) {
+    return inputs[(int) (tick % inputs.length)];
+  }
+
+  /**
+   * Drop what was recorded from a tick on, as the world went back to it.
+   *
+   * @param tick Tick of a snapshot, see {@link #getTick(int)}.
+   */
+  public void truncate(final long tick) {
+    for (int i = 0; i < ticks.length; i++) {
+      if (ticks[i] > tick) {
+        ticks[i] = -1;
+      }
+    }
+    end = tick;
+  }
+}
@@ -2,11 +2,15 @@
 
 package org.thunderfighter.game.spawn;
 
+import java.nio.ByteBuffer;
 import java.util.List;
 import java.util.Random;
-import javafx.scene.canvas.Canvas;
+import org.thunderfighter.core.abstractor.AbstractEnemyAircraft;
 import org.thunderfighter.core.abstractor.AbstractEntity;
-import org.thunderfighter.game.Game;
+import org.thunderfighter.core.manager.ScoreManager;
+import org.thunderfighter.core.metrics.SpawnEvent;
+import org.thunderfighter.core.world.WorldSize;
+import org.thunderfighter.game.World;
 import org.thunderfighter.game.aircraft.enemy.*;
 import org.thunderfighter.utils.Constant;
 
@@ -16,11 +20,17 @@ import org.thunderfighter.utils.Constant;
  */
 public class EnemySpawner {
 
-  /** Random number generator used to randomly generate the X coordinate of enemy aircraft */
-  private final Random rng = new Random();
+  /**
+   * Random number generator used to randomly generate the X coordinate of enemy aircraft, seeded by
+   * the world for each round
+   */
+  private final Random rng;
+
+  /** Score of the world, credited by the spawned enemies */
+  private final ScoreManager scoreManager;
 
-  /** Game canvas */
-  private final Canvas canvas;
+  /** Size of the world the enemies are spawned into */
+  private final WorldSize worldSize;
 
   /** World entity list, used to store generated enemy aircraft */
   private List<AbstractEntity> entities;
@@ -37,13 +47,17 @@ public class EnemySpawner {
   /**
    * Constructor
    *
-   * @param canvas Game canvas
+   * @param worldSize World size
    * @param entities List of world entities
-   * @param game Game object (used when the boss is generated)
+   * @param rng Random number generator, owned by the world
+   * @param scoreManager Score of the world
    */
-  public EnemySpawner(Canvas canvas, List<AbstractEntity> entities, Game game) {
-    this.canvas = canvas;
+  public EnemySpawner(
+      WorldSize worldSize, List<AbstractEntity> entities, Random rng, ScoreManager scoreManager) {
+    this.worldSize = worldSize;
     this.entities = entities;
+    this.rng = rng;
+    this.scoreManager = scoreManager;
   }
 
   /** Resets the generator state Usually called when restarting the game */
@@ -52,6 +66,35 @@ public class EnemySpawner {
     boss = null;
   }
 
+  /**
+   * Write the spawn cooldowns
+   *
+   * @param out Buffer to write to
+   */
+  public void writeState(ByteBuffer out) {
+    out.putInt(normalCd);
+    out.putInt(eliteCd);
+  }
+
+  /**
+   * Read the spawn cooldowns written by {@link #writeState(ByteBuffer)}
+   *
+   * @param in Buffer to read from
+   */
+  public void readState(ByteBuffer in) {
+    normalCd = in.getInt();
+    eliteCd = in.getInt();
+  }
+
+  /**
+   * Sets the current Boss, e.g. after the world state was restored
+   *
+   * @param boss Boss in the world, or null
+   */
+  public void setBoss(BossEnemy boss) {
+    this.boss = boss;
+  }
+
   /**
    * Generate a regular enemy aircraft
    *
@@ -63,9 +106,13 @@ public class EnemySpawner {
     }
     normalCd = Constant.TPS;
 
+    final SpawnEvent event = new SpawnEvent();
+    event.begin();
     NormalEnemy enemy = new NormalEnemy(randomX());
-    enemy.setCanvas(canvas);
+    enemy.setWorldSize(worldSize);
+    enemy.setScoreManager(scoreManager);
     entities.add(enemy);
+    commit(event, enemy);
 
     return true;
   }
@@ -81,9 +128,13 @@ public class EnemySpawner {
     }
     eliteCd = 3 * Constant.TPS;
 
+    final SpawnEvent event = new SpawnEvent();
+    event.begin();
     EliteEnemy enemy = new EliteEnemy(randomX());
-    enemy.setCanvas(canvas);
+    enemy.setWorldSize(worldSize);
+    enemy.setScoreManager(scoreManager);
     entities.add(enemy);
+    commit(event, enemy);
 
     return true;
   }
@@ -91,25 +142,45 @@ public class EnemySpawner {
   /**
    * Generate a Boss Only one Boss is allowed at a time
    *
-   * @param game Game object (used for Boss state control)
+   * @param world World object (used for Boss state control)
    * @return Whether the Boss was successfully generated
    */
-  public boolean spawnBoss(Game game) {
+  public boolean spawnBoss(World world) {
     if (boss != null && boss.isAlive()) {
       return false;
     }
 
-    boss = new BossEnemy(canvas.getWidth() / 2 - 100, 0, game);
-    boss.setCanvas(canvas);
+    final SpawnEvent event = new SpawnEvent();
+    event.begin();
+    boss = new BossEnemy(worldSize.width() / 2 - 100, 0, world);
+    boss.setWorldSize(worldSize);
+    boss.setScoreManager(scoreManager);
     entities.add(boss);
+    commit(event, boss);
 
     return true;
   }
 
   /**
-   * Generate random X coordinates Ensure enemy aircraft do not exceed the right side of the canvas
+   * Commit a JFR spawn event if it is recorded
+   *
+   * @param event Event begun before the enemy was created
+   * @param enemy Spawned enemy
+   */
+  private void commit(SpawnEvent event, AbstractEnemyAircraft enemy) {
+    event.end();
+    if (event.shouldCommit()) {
+      event.enemy = enemy.getClass().getSimpleName();
+      event.x = enemy.getX();
+      event.entities = entities.size();
+      event.commit();
+    }
+  }
+
+  /**
+   * Generate random X coordinates Ensure enemy aircraft do not exceed the right side of the world
    */
   private double randomX() {
-    return rng.nextDouble() * (canvas.getWidth() - 60);
+    return rng.nextDouble() * (worldSize.width() - 60);
   }
 }
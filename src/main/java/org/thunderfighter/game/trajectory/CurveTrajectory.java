@@ -16,7 +16,7 @@ import org.thunderfighter.core.entity.Trajectory;
  */
 public class CurveTrajectory implements Trajectory {
 
-  private final double factor;
+  private double factor;
   private final double gravity;
   private final boolean keepSpeed;
   private final double minDownVy;
@@ -59,6 +59,35 @@ public class CurveTrajectory implements Trajectory {
     this.maxSpeed = maxSpeed;
   }
 
+  public double getFactor() {
+    return factor;
+  }
+
+  public double getGravity() {
+    return gravity;
+  }
+
+  public boolean isKeepSpeed() {
+    return keepSpeed;
+  }
+
+  public double getMinDownVy() {
+    return minDownVy;
+  }
+
+  public double getMaxSpeed() {
+    return maxSpeed;
+  }
+
+  /**
+   * Changes the curvature strength, so that a pooled bullet can reuse its trajectory.
+   *
+   * @param factor curvature strength
+   */
+  public void setFactor(double factor) {
+    this.factor = factor;
+  }
+
   /**
    * Updates bullet velocity and position for one frame.
    *
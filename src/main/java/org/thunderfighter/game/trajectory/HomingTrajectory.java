@@ -16,7 +16,7 @@ import org.thunderfighter.core.entity.Trajectory;
  *
  * <p>turnStrength recommended range: 0.05 ~ 0.20
  */
-public class HomingTrajectory implements Trajectory {
+public final class HomingTrajectory implements Trajectory {
 
   /**
    * TargetProvider
@@ -30,8 +30,8 @@ public class HomingTrajectory implements Trajectory {
     double getTargetY();
   }
 
-  private final TargetProvider provider;
-  private final double turnStrength;
+  private TargetProvider provider;
+  private double turnStrength;
 
   /**
    * Constructs a homing trajectory.
@@ -40,10 +40,30 @@ public class HomingTrajectory implements Trajectory {
    * @param turnStrength interpolation factor for turning (clamped to [0,1])
    */
   public HomingTrajectory(TargetProvider provider, double turnStrength) {
+    reset(provider, turnStrength);
+  }
+
+  /**
+   * Re-targets the trajectory, so that a pooled bullet can reuse it.
+   *
+   * @param provider supplies target position
+   * @param turnStrength interpolation factor for turning (clamped to [0,1])
+   */
+  public void reset(TargetProvider provider, double turnStrength) {
     this.provider = provider;
     this.turnStrength = Math.max(0.0, Math.min(1.0, turnStrength));
   }
 
+  /** Supplier of the target position. */
+  public TargetProvider getProvider() {
+    return provider;
+  }
+
+  /** Interpolation factor for turning, in [0,1]. */
+  public double getTurnStrength() {
+    return turnStrength;
+  }
+
   /**
    * Updates bullet direction and position for one frame.
    *
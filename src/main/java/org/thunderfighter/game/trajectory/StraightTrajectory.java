@@ -9,9 +9,14 @@ import org.thunderfighter.core.entity.Trajectory;
  * StraightTrajectory
  *
  * <p>Each tick moves the bullet by its velocity vector (dx, dy).
+ *
+ * <p>It holds no state, prefer {@link #INSTANCE} over creating new instances.
  */
 public class StraightTrajectory implements Trajectory {
 
+  /** The trajectory is stateless, so all straight bullets share this instance. */
+  public static final StraightTrajectory INSTANCE = new StraightTrajectory();
+
   @Override
   public void update(AbstractBullet b) {
     b.setX(b.getX() + b.getDx());
@@ -0,0 +1,76 @@
+// src/main/java/org/thunderfighter/ui/BackgroundLayer.java
+
+package org.thunderfighter.ui;
+
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.layout.Pane;
+import javafx.scene.shape.Rectangle;
+
+/**
+ * Background behind the entity canvas.
+ *
+ * <p>The image is decoded once at the size of the layer and shown by {@link ImageView}s, so it is
+ * neither redrawn nor rescaled by the game. When scrolling, two copies stacked vertically are moved
+ * down by changing their translation only, and wrap around once a copy left the layer.
+ */
+public final class BackgroundLayer extends Pane {
+
+  private final ImageView upper;
+  private final ImageView lower;
+  private final double height;
+
+  // Scrolling speed in pixels per second, `0` for a static background.
+  private final double speed;
+
+  private double offset = 0;
+  private long lastNow = -1;
+
+  /**
+   * Constructor of {@code BackgroundLayer}.
+   *
+   * @param image Background image, already scaled to the layer.
+   * @param speed Downward scrolling speed in pixels per second, or {@code 0} to stand still.
+   */
+  public BackgroundLayer(final Image image, final double speed) {
+    this.height = image.getHeight();
+    this.speed = speed;
+    upper = new ImageView(image);
+    lower = new ImageView(image);
+    getChildren().addAll(lower, upper);
+
+    setMinSize(image.getWidth(), height);
+    setMaxSize(image.getWidth(), height);
+    setClip(new Rectangle(image.getWidth(), height));
+    setMouseTransparent(true);
+
+    upper.setVisible(speed != 0);
+    place();
+  }
+
+  /**
+   * Scroll by the time elapsed since the previous call.
+   *
+   * @param now Timestamp of the current frame in nanoseconds.
+   */
+  public void scroll(final long now) {
+    if (speed == 0) {
+      return;
+    }
+    if (lastNow >= 0) {
+      offset = (offset + speed * (now - lastNow) / 1e9) % height;
+      place();
+    }
+    lastNow = now;
+  }
+
+  /** Forget the previous frame, e.g. while paused, so that the next scroll does not jump. */
+  public void pause() {
+    lastNow = -1;
+  }
+
+  private void place() {
+    lower.setTranslateY(offset);
+    upper.setTranslateY(offset - height);
+  }
+}
@@ -4,23 +4,18 @@ package org.thunderfighter.ui;
 
 import javafx.scene.Scene;
 import javafx.scene.input.KeyCode;
-import org.thunderfighter.core.abstractor.AbstractPlayerAircraft;
 import org.thunderfighter.game.Game;
+import org.thunderfighter.utils.Constant;
 
 // Keyboard input controller for player aircraft, enable operations based on key presses
+// Input is submitted to the game as commands, so it reaches the simulation thread when enabled
 public class KeyboardController {
 
-  private AbstractPlayerAircraft player;
   private final Game game;
 
-  public KeyboardController(AbstractPlayerAircraft player, Game game) {
-    this.player = player;
+  public KeyboardController(Game game) {
     this.game = game;
-  } // create a keyboard controller for the player aircraft
-
-  public void setPlayer(AbstractPlayerAircraft player) {
-    this.player = player;
-  }
+  } // create a keyboard controller for the player aircraft of the game
 
   public void operation(Scene scene) {
 
@@ -29,12 +24,12 @@ public class KeyboardController {
         event -> {
           KeyCode code = event.getCode();
           switch (code) {
-            case W, UP -> player.setUp(true);
-            case S, DOWN -> player.setDown(true);
-            case A, LEFT -> player.setLeft(true);
-            case D, RIGHT -> player.setRight(true);
+            case W, UP -> game.submit(world -> world.getPlayerAircraft().setUp(true));
+            case S, DOWN -> game.submit(world -> world.getPlayerAircraft().setDown(true));
+            case A, LEFT -> game.submit(world -> world.getPlayerAircraft().setLeft(true));
+            case D, RIGHT -> game.submit(world -> world.getPlayerAircraft().setRight(true));
             case SPACE -> {
-              player.setShooting(true);
+              game.submit(world -> world.getPlayerAircraft().setShooting(true));
               event.consume();
             }
             case P -> {
@@ -42,6 +37,16 @@ public class KeyboardController {
               game.togglePause();
               event.consume();
             }
+            case F3 -> game.toggleMetricsOverlay(); // Debug: show tick metrics
+            case F4 -> game.dumpMetrics(); // Debug: write tick metrics to a CSV file
+            case F5 -> game.quickSave(); // Save the round, also to a file
+            case F9 -> game.quickLoad(); // Continue from the last save
+            case R -> {
+              // Debug: go back one second, only bound with `Constant.REWIND`.
+              if (Constant.REWIND) {
+                game.rewind();
+              }
+            }
             default -> {}
           }
         });
@@ -53,12 +58,12 @@ public class KeyboardController {
         event -> {
           KeyCode code = event.getCode();
           switch (code) {
-            case W, UP -> player.setUp(false);
-            case S, DOWN -> player.setDown(false);
-            case A, LEFT -> player.setLeft(false);
-            case D, RIGHT -> player.setRight(false);
+            case W, UP -> game.submit(world -> world.getPlayerAircraft().setUp(false));
+            case S, DOWN -> game.submit(world -> world.getPlayerAircraft().setDown(false));
+            case A, LEFT -> game.submit(world -> world.getPlayerAircraft().setLeft(false));
+            case D, RIGHT -> game.submit(world -> world.getPlayerAircraft().setRight(false));
             case SPACE -> {
-              player.setShooting(false);
+              game.submit(world -> world.getPlayerAircraft().setShooting(false));
               event.consume();
             }
             default -> {}
@@ -0,0 +1,149 @@
+// src/main/java/org/thunderfighter/ui/MetricsOverlay.java
+
+package org.thunderfighter.ui;
+
+import java.util.Locale;
+import javafx.geometry.Insets;
+import javafx.geometry.Pos;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundFill;
+import javafx.scene.layout.CornerRadii;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.scene.paint.Color;
+import org.thunderfighter.core.metrics.Histogram;
+import org.thunderfighter.core.metrics.Phase;
+import org.thunderfighter.core.metrics.TickMetrics;
+import org.thunderfighter.core.render.RenderLayer;
+import org.thunderfighter.core.render.SnapshotRenderer;
+import org.thunderfighter.core.render.SpriteId;
+import org.thunderfighter.game.bullet.BulletType;
+import org.thunderfighter.game.bulletfactory.BulletFactory;
+import org.thunderfighter.game.bulletfactory.BulletPool;
+
+/**
+ * Debug panel below the score board showing p50/p99/max of each phase, entity counts, the bullet
+ * pool counters and the sprites drawn and culled per layer.
+ */
+public class MetricsOverlay {
+
+  /** Frames between two refreshes, building the text every frame would cost more than it shows. */
+  private static final int REFRESH_FRAMES = 30;
+
+  private VBox container;
+  private Label label;
+  private int framesUntilRefresh = 0;
+
+  /**
+   * Constructor of {@code MetricsOverlay}. The overlay starts hidden.
+   *
+   * @param root The root pane.
+   */
+  public MetricsOverlay(final StackPane root) {
+    initContainer();
+    root.getChildren().add(container);
+  }
+
+  public void setVisible(final boolean visible) {
+    container.setVisible(visible);
+  }
+
+  public boolean isVisible() {
+    return container.isVisible();
+  }
+
+  public void toggle() {
+    setVisible(!isVisible());
+    framesUntilRefresh = 0;
+  }
+
+  /**
+   * Refresh the text every {@code REFRESH_FRAMES} frames while visible.
+   *
+   * @param metrics Metrics to show.
+   * @param renderer Renderer of the last frame, for its culling counters.
+   */
+  public void update(final TickMetrics metrics, final SnapshotRenderer renderer) {
+    if (!isVisible() || framesUntilRefresh-- > 0) {
+      return;
+    }
+    framesUntilRefresh = REFRESH_FRAMES;
+
+    final StringBuilder text = new StringBuilder("phase     p50     p99     max  (us)\n");
+    for (final Phase phase : Phase.values()) {
+      final Histogram histogram = metrics.get(phase);
+      text.append(
+          String.format(
+              Locale.ROOT,
+              "%-7s %7.1f %7.1f %7.1f\n",
+              phase.name(),
+              histogram.getValueAtPercentile(50) / 1000.0,
+              histogram.getValueAtPercentile(99) / 1000.0,
+              histogram.getMax() / 1000.0));
+    }
+    final Histogram allocated = metrics.getAllocatedBytes();
+    text.append(
+        String.format(
+            Locale.ROOT,
+            "alloc/tick p50 %d B, p99 %d B\n",
+            allocated.getValueAtPercentile(50),
+            allocated.getValueAtPercentile(99)));
+    text.append(
+        String.format(
+            Locale.ROOT,
+            "added/tick p99 %d, removed/tick p99 %d\n",
+            metrics.getAdded().getValueAtPercentile(99),
+            metrics.getRemoved().getValueAtPercentile(99)));
+    long hits = 0;
+    long misses = 0;
+    int idle = 0;
+    for (final BulletType type : BulletType.values()) {
+      final BulletPool<?> pool = BulletFactory.getPool(type);
+      hits += pool.getHits();
+      misses += pool.getMisses();
+      idle += pool.getIdleCount();
+    }
+    text.append(
+        String.format(
+            Locale.ROOT, "pools hits %d, misses %d, idle %d\n\n", hits, misses, idle));
+    for (final SpriteId sprite : SpriteId.values()) {
+      text.append(
+          String.format(
+              Locale.ROOT, "%-13s %5d\n", sprite.name(), metrics.getEntityCount(sprite)));
+    }
+
+    text.append("\nlayer       drawn culled\n");
+    for (final RenderLayer layer : RenderLayer.values()) {
+      if (layer != RenderLayer.BACKGROUND) {
+        text.append(
+            String.format(
+                Locale.ROOT,
+                "%-10s %6d %6d\n",
+                layer.name(),
+                renderer.getDrawn(layer),
+                renderer.getCulled(layer)));
+      }
+    }
+    label.setText(text.toString());
+  }
+
+  /** Initialize the container and set its style, like the score board. */
+  private void initContainer() {
+    container = new VBox();
+    StackPane.setAlignment(container, Pos.TOP_RIGHT);
+    StackPane.setMargin(container, new Insets(140, 20, 0, 0));
+    container.setMaxWidth(280);
+    container.setMaxHeight(460);
+    final Color bgColor = Color.rgb(0, 0, 0, 0.6);
+    container.setBackground(
+        new Background(new BackgroundFill(bgColor, new CornerRadii(15), Insets.EMPTY)));
+    container.setPadding(new Insets(10));
+    container.setMouseTransparent(true);
+
+    label = new Label();
+    label.setStyle("-fx-font-family: 'monospace'; -fx-font-size: 12px; -fx-text-fill: white;");
+    container.getChildren().add(label);
+    container.setVisible(false);
+  }
+}
@@ -21,15 +21,19 @@ public class ScoreBoard {
   private Label scoreLabel;
   private Label livesLabel;
   private PlayerAircraft playerAircraft;
+  private final ScoreManager scoreManager;
 
   /**
    * Constructor of {@code ScoreBoard}.
    *
    * @param root The root pane.
    * @param playerAircraft Player's aircraft to display the lives.
+   * @param scoreManager Score to display.
    */
-  public ScoreBoard(final StackPane root, final PlayerAircraft playerAircraft) {
+  public ScoreBoard(
+      final StackPane root, final PlayerAircraft playerAircraft, final ScoreManager scoreManager) {
     this.playerAircraft = playerAircraft;
+    this.scoreManager = scoreManager;
     initScoreBoardContainer();
 
     root.getChildren().add(scoreBoardContainer);
@@ -45,8 +49,18 @@ public class ScoreBoard {
 
   /** Update the score board. */
   public void update() {
-    scoreLabel.setText("Score: " + ScoreManager.getInstance().getScore());
-    livesLabel.setText("Lives: " + playerAircraft.getHp());
+    update(scoreManager.getScore(), playerAircraft.getHp());
+  }
+
+  /**
+   * Update the score board with given values, e.g. read from a render snapshot.
+   *
+   * @param score Score to display.
+   * @param lives Lives to display.
+   */
+  public void update(final int score, final int lives) {
+    scoreLabel.setText("Score: " + score);
+    livesLabel.setText("Lives: " + lives);
   }
 
   /** Initialize the score board and set its style. */
@@ -67,7 +81,7 @@ public class ScoreBoard {
     final String labelStyle =
         "-fx-font-family: 'Arial Black'; -fx-font-size: 20px; -fx-text-fill: white; -fx-effect:"
             + " dropshadow(gaussian, black, 4, 0, 2, 2);";
-    scoreLabel = new Label("Score: " + ScoreManager.getInstance().getScore());
+    scoreLabel = new Label("Score: " + scoreManager.getScore());
     scoreLabel.setStyle(labelStyle);
 
     livesLabel = new Label("Lives: " + playerAircraft.getHp());
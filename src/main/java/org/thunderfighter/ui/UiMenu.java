@@ -5,7 +5,13 @@ package org.thunderfighter.ui;
 import javafx.geometry.Pos;
 import javafx.scene.control.Button;
 import javafx.scene.control.Label;
+import javafx.scene.layout.Background;
+import javafx.scene.layout.BackgroundImage;
+import javafx.scene.layout.BackgroundPosition;
+import javafx.scene.layout.BackgroundRepeat;
+import javafx.scene.layout.BackgroundSize;
 import org.thunderfighter.core.abstractor.AbstractUiMenu;
+import org.thunderfighter.core.manager.AssetManager;
 import org.thunderfighter.game.Game;
 import org.thunderfighter.utils.Constant;
 
@@ -16,6 +22,8 @@ import org.thunderfighter.utils.Constant;
  * Therefore, we can reuse this class to create and manage the main menu of the game
  */
 public class UiMenu extends AbstractUiMenu {
+  public static final String BACKGROUND_IMAGE = "/images/Background/log_in_bg.png";
+
   // The element of the main menu
   public final Label title = new Label("Thunder Fighter");
   public final Button startButton = new Button("Start Game");
@@ -31,14 +39,16 @@ public class UiMenu extends AbstractUiMenu {
     this.setAlignment(Pos.CENTER);
     this.setSpacing(20); // set the spacing between elements in the menu
 
-    String imagePath = getClass().getResource("/images/Background/log_in_bg.png").toExternalForm();
-    this.setStyle(
-        "-fx-background-image: url('"
-            + imagePath
-            + "');"
-            + "-fx-background-size: cover;"
-            + "-fx-background-position: center;"
-            + "-fx-background-repeat: no-repeat;"); // add background image to the menu
+    // add background image to the menu, shared with the asset preloader
+    this.setBackground(
+        new Background(
+            new BackgroundImage(
+                AssetManager.getInstance().getImage(BACKGROUND_IMAGE),
+                BackgroundRepeat.NO_REPEAT,
+                BackgroundRepeat.NO_REPEAT,
+                BackgroundPosition.CENTER,
+                new BackgroundSize(
+                    BackgroundSize.AUTO, BackgroundSize.AUTO, false, false, false, true))));
 
     this.title.getStyleClass().add("title");
 
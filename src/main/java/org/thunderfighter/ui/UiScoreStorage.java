@@ -10,6 +10,7 @@ import java.nio.file.Paths;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Scanner;
+import org.thunderfighter.core.metrics.ScoreWriteEvent;
 import org.thunderfighter.utils.AppDataDirectory;
 
 /*
@@ -84,6 +85,8 @@ public class UiScoreStorage {
       AppDataDirectory.createFile(fileName);
     } // if the file does not exist, create it
 
+    ScoreWriteEvent event = new ScoreWriteEvent();
+    event.begin();
     try {
       PrintWriter printWriter = new PrintWriter(dataFile.toString());
       sortScoreDescending();
@@ -91,8 +94,15 @@ public class UiScoreStorage {
         printWriter.println(score);
       }
       printWriter.close();
+      event.success = true;
     } catch (IOException e) {
       e.printStackTrace();
     } // Write scores from the score list to the file
+
+    if (event.shouldCommit()) {
+      event.path = dataFile.toString();
+      event.scores = scores.size();
+      event.commit();
+    } // Report the write to JFR when recording
   }
 }
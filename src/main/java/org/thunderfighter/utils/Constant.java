@@ -12,6 +12,41 @@ public class Constant {
 
   public static final int TPS = 120;
 
+  // Catch-up cap of the fixed-step loop, ticks beyond it are dropped.
+  public static final int MAX_TICKS_PER_FRAME = 8;
+
+  // Run the simulation on its own thread and draw from published snapshots.
+  public static final boolean SIMULATION_THREAD = false;
+
+  // Decode sprites drawn at a single size at that size instead of scaling them on every draw.
+  public static final boolean PRESCALE_SPRITES = true;
+
+  // Downward scrolling speed of the background in pixels per second, `0` keeps it still.
+  public static final double BACKGROUND_SCROLL_SPEED = 0;
+
+  // A leak is reported once the lowest entity count rose in this many windows in a row.
+  public static final int WATCHDOG_WINDOW_TICKS = 5 * TPS;
+  public static final int WATCHDOG_WINDOWS = 6;
+
+  // Update entities in chunks on the common fork-join pool once the world holds this many.
+  public static final boolean PARALLEL_UPDATE = false;
+  public static final int PARALLEL_UPDATE_THRESHOLD = 2048;
+  public static final int PARALLEL_UPDATE_CHUNK = 256;
+
+  // Write a replay of each finished round to the app data directory.
+  public static final boolean RECORD_REPLAYS = false;
+
+  // Ticks between two keyframes of a replay, seeking simulates at most this many ticks.
+  public static final int REPLAY_KEYFRAME_TICKS = 5 * TPS;
+
+  // Keep recent states and go back one step with the R debug key.
+  public static final boolean REWIND = false;
+
+  // Ticks the game can rewind, ticks between two of its snapshots, and ticks rewound per key press.
+  public static final int REWIND_WINDOW_TICKS = 10 * TPS;
+  public static final int REWIND_SNAPSHOT_TICKS = TPS / 4;
+  public static final int REWIND_STEP_TICKS = TPS;
+
   public static enum PHASE {
     NORMAL,
     ELITE,